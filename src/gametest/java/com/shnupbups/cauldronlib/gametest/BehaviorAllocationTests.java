@@ -0,0 +1,213 @@
+package com.shnupbups.cauldronlib.gametest;
+
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.expect;
+
+import java.lang.management.ManagementFactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.sun.management.ThreadMXBean;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.ItemUsage;
+import net.minecraft.item.Items;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.stat.Stats;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.event.GameEvent;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.metrics.CauldronMetrics;
+
+/**
+ * Checks what CauldronLib's stock behaviors allocate once warmed up.
+ *
+ * <p>Vanilla still allocates a sound packet and game event per use, so the stock behaviors are compared against a behavior
+ * doing the same work the way vanilla does, with {@link ItemUsage#exchangeStack(ItemStack, PlayerEntity, ItemStack)} and a
+ * new stack per use. What both allocate cancels out, and CauldronLib's behavior must not allocate more.
+ */
+public class BehaviorAllocationTests implements FabricGameTest {
+	private static final Logger LOGGER = LogManager.getLogger("CauldronLib GameTest");
+	private static final BlockPos POS = new BlockPos(1, 1, 1);
+	private static final int WARM_UP_CALLS = 20_000;
+	private static final int MEASURED_CALLS = 100_000;
+	private static final int WARM_UP_ROUNDS = 1_000;
+	private static final int MEASURED_ROUNDS = 2_000;
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void instrumentAllocatesNothingWhileDisabled(TestContext context) {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+			LOGGER.warn("Thread allocation counting isn't available, skipping allocation checks");
+			context.complete();
+			return;
+		}
+
+		ServerWorld world = context.getWorld();
+		PlayerEntity player = context.createMockPlayer();
+		BlockState state = Blocks.CAULDRON.getDefaultState();
+		BlockPos absolute = context.getAbsolutePos(POS);
+		ItemStack stack = new ItemStack(Items.STICK);
+		CauldronBehavior behavior = CauldronMetrics.instrument("allocation_test", (s, w, p, pl, h, st) -> ActionResult.PASS);
+
+		for (int i = 0; i < WARM_UP_CALLS; i++) {
+			behavior.interact(state, world, absolute, player, Hand.MAIN_HAND, stack);
+		}
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < MEASURED_CALLS; i++) {
+			behavior.interact(state, world, absolute, player, Hand.MAIN_HAND, stack);
+		}
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+		// Allows for the counter's own noise, far below the size of one event per call
+		expect(allocated < MEASURED_CALLS / 4, "Expected instrumented behaviors to allocate nothing while JFR is off, allocated " + allocated + " bytes over " + MEASURED_CALLS + " calls");
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void bottleFillMergesIntoExistingStack(TestContext context) {
+		ServerWorld world = context.getWorld();
+		PlayerEntity player = context.createMockPlayer();
+		BlockPos absolute = context.getAbsolutePos(POS);
+		CauldronBehavior behavior = CauldronLib.createFillFromBottleBehavior(CauldronLibTestMod.THREE_LEVELED_CAULDRON);
+		context.setBlockState(POS, Blocks.CAULDRON.getDefaultState());
+
+		ItemStack held = new ItemStack(Items.HONEY_BOTTLE, Items.HONEY_BOTTLE.getMaxCount());
+		ItemStack bottles = new ItemStack(Items.GLASS_BOTTLE);
+		player.setStackInHand(Hand.MAIN_HAND, held);
+		player.getInventory().setStack(1, bottles);
+
+		int uses = held.getCount() - 1;
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long before = threads.getCurrentThreadAllocatedBytes();
+
+		for (int i = 0; i < uses; i++) {
+			expect(behavior.interact(context.getBlockState(POS), world, absolute, player, Hand.MAIN_HAND, player.getStackInHand(Hand.MAIN_HAND)).isAccepted(), "Expected the bottle to fill the cauldron");
+		}
+
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+		expect(player.getStackInHand(Hand.MAIN_HAND) == held && held.getCount() == 1, "Expected the held stack to be kept and shrunk, got " + player.getStackInHand(Hand.MAIN_HAND));
+		expect(player.getInventory().getStack(1) == bottles && bottles.getCount() == uses + 1, "Expected the glass bottles to be merged into the existing stack, got " + player.getInventory().getStack(1));
+
+		LOGGER.info("Filling from a bottle allocated {} bytes per interaction, including vanilla's sounds and game events", allocated / uses);
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void fillFromBottleAllocatesNoMoreThanVanilla(TestContext context) {
+		compareToVanilla(context, "Filling from a bottle", CauldronLib.createFillFromBottleBehavior(CauldronLibTestMod.THREE_LEVELED_CAULDRON),
+				createVanillaBehavior(CauldronLibTestMod.THREE_LEVELED_CAULDRON.getDefaultState(), Items.GLASS_BOTTLE, Stats.USE_CAULDRON, SoundEvents.ITEM_BOTTLE_EMPTY, GameEvent.FLUID_PLACE),
+				Blocks.CAULDRON.getDefaultState(), Items.HONEY_BOTTLE, Items.GLASS_BOTTLE);
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void fillFromBucketAllocatesNoMoreThanVanilla(TestContext context) {
+		compareToVanilla(context, "Filling from a bucket", CauldronLib.createFillFromBucketBehavior(CauldronLibTestMod.FULL_CAULDRON),
+				createVanillaBehavior(CauldronLibTestMod.FULL_CAULDRON.getDefaultState(), Items.BUCKET, Stats.FILL_CAULDRON, SoundEvents.ITEM_BUCKET_EMPTY, GameEvent.FLUID_PLACE),
+				Blocks.CAULDRON.getDefaultState(), Items.MILK_BUCKET, Items.BUCKET);
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void emptyAllocatesNoMoreThanVanilla(TestContext context) {
+		compareToVanilla(context, "Emptying", CauldronLib.createEmptyBehavior(Items.HONEY_BOTTLE, SoundEvents.ITEM_BOTTLE_FILL),
+				createVanillaBehavior(Blocks.CAULDRON.getDefaultState(), Items.HONEY_BOTTLE, Stats.USE_CAULDRON, SoundEvents.ITEM_BOTTLE_FILL, GameEvent.FLUID_PICKUP),
+				CauldronLibTestMod.FULL_CAULDRON.getDefaultState(), Items.GLASS_BOTTLE, Items.HONEY_BOTTLE);
+	}
+
+	/**
+	 * Uses a behavior and its vanilla equivalent over and over on the same cauldron, and fails if the behavior allocates more.
+	 *
+	 * <p>Each round refills the player's hand and puts a single stack of the result in their inventory, which doesn't allocate,
+	 * then uses the held stack until one is left or the result stack is full, or once if the held item doesn't stack.
+	 */
+	private static void compareToVanilla(TestContext context, String name, CauldronBehavior behavior, CauldronBehavior vanilla, BlockState state, Item held, Item result) {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+			LOGGER.warn("Thread allocation counting isn't available, skipping allocation checks");
+			context.complete();
+			return;
+		}
+
+		ServerWorld world = context.getWorld();
+		PlayerEntity player = context.createMockPlayer();
+		BlockPos absolute = context.getAbsolutePos(POS);
+		ItemStack heldStack = new ItemStack(held);
+		ItemStack resultStack = new ItemStack(result);
+		// Stops before either stack runs out or overflows, so every use in a round does the same work
+		int uses = Math.max(Math.min(held.getMaxCount(), result.getMaxCount()) - 1, 1);
+
+		Runnable behaviorRound = () -> round(world, player, absolute, state, behavior, heldStack, resultStack, uses);
+		Runnable vanillaRound = () -> round(world, player, absolute, state, vanilla, heldStack, resultStack, uses);
+
+		for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+			behaviorRound.run();
+			vanillaRound.run();
+		}
+
+		long allocated = measure(threads, behaviorRound);
+		long baseline = measure(threads, vanillaRound);
+		long calls = (long) MEASURED_ROUNDS * uses;
+
+		LOGGER.info("{} allocated {} bytes per interaction, against {} bytes the vanilla way", name, allocated / calls, baseline / calls);
+		// Allows for the counter's own noise, far below the size of one stack per call
+		expect(allocated <= baseline + calls / 4, name + " allocated " + allocated + " bytes over " + calls + " interactions, more than the " + baseline + " bytes of the vanilla way");
+		context.complete();
+	}
+
+	private static long measure(ThreadMXBean threads, Runnable round) {
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			round.run();
+		}
+
+		return threads.getCurrentThreadAllocatedBytes() - before;
+	}
+
+	private static void round(ServerWorld world, PlayerEntity player, BlockPos pos, BlockState state, CauldronBehavior behavior, ItemStack held, ItemStack result, int uses) {
+		PlayerInventory inventory = player.getInventory();
+		inventory.clear();
+		held.setCount(held.getMaxCount());
+		result.setCount(1);
+		player.setStackInHand(Hand.MAIN_HAND, held);
+		inventory.setStack(1, result);
+
+		for (int i = 0; i < uses; i++) {
+			behavior.interact(state, world, pos, player, Hand.MAIN_HAND, player.getStackInHand(Hand.MAIN_HAND));
+		}
+	}
+
+	/**
+	 * Creates a behavior that does what one of CauldronLib's stock behaviors does, the way vanilla's own cauldron behaviors do it.
+	 */
+	private static CauldronBehavior createVanillaBehavior(BlockState newState, Item result, Identifier stat, SoundEvent sound, GameEvent event) {
+		return (state, world, pos, player, hand, stack) -> {
+			Item item = stack.getItem();
+			player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, new ItemStack(result)));
+			player.incrementStat(stat);
+			player.incrementStat(Stats.USED.getOrCreateStat(item));
+			world.setBlockState(pos, newState);
+			world.playSound(null, pos, sound, SoundCategory.BLOCKS, 1.0F, 1.0F);
+			world.emitGameEvent(null, event, pos);
+			return ActionResult.SUCCESS;
+		};
+	}
+}
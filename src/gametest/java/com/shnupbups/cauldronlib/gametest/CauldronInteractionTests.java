@@ -0,0 +1,100 @@
+package com.shnupbups.cauldronlib.gametest;
+
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.expect;
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.expectFluidLevel;
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.use;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+
+import net.minecraft.block.Blocks;
+import net.minecraft.block.LeveledCauldronBlock;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.passive.PigEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Items;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Drives cauldrons with scripted item interactions and entity collisions.
+ */
+public class CauldronInteractionTests implements FabricGameTest {
+	private static final BlockPos POS = new BlockPos(1, 1, 1);
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void bottlesFillAndEmptyThreeLeveledCauldron(TestContext context) {
+		PlayerEntity player = context.createMockPlayer();
+		context.setBlockState(POS, Blocks.CAULDRON.getDefaultState());
+
+		expect(use(context, player, POS, Items.HONEY_BOTTLE).isAccepted(), "Expected a honey bottle to fill an empty cauldron");
+		context.expectBlock(CauldronLibTestMod.THREE_LEVELED_CAULDRON, POS);
+		expectFluidLevel(context, POS, 1);
+		expect(player.getStackInHand(Hand.MAIN_HAND).isOf(Items.GLASS_BOTTLE), "Expected the honey bottle to be exchanged for a glass bottle");
+
+		for (int level = 2; level <= 3; level++) {
+			expect(use(context, player, POS, Items.HONEY_BOTTLE).isAccepted(), "Expected a honey bottle to add a level");
+			expectFluidLevel(context, POS, level);
+		}
+
+		expect(use(context, player, POS, Items.HONEY_BOTTLE) == ActionResult.PASS, "Expected a honey bottle to pass on a full cauldron");
+		expectFluidLevel(context, POS, 3);
+
+		for (int level = 2; level >= 0; level--) {
+			expect(use(context, player, POS, Items.GLASS_BOTTLE).isAccepted(), "Expected a glass bottle to take a level");
+			expectFluidLevel(context, POS, level);
+		}
+
+		context.expectBlock(Blocks.CAULDRON, POS);
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void bucketsFillAndEmptyFullCauldron(TestContext context) {
+		PlayerEntity player = context.createMockPlayer();
+		context.setBlockState(POS, Blocks.CAULDRON.getDefaultState());
+
+		expect(use(context, player, POS, Items.MILK_BUCKET).isAccepted(), "Expected a milk bucket to fill an empty cauldron");
+		context.expectBlock(CauldronLibTestMod.FULL_CAULDRON, POS);
+		expect(player.getStackInHand(Hand.MAIN_HAND).isOf(Items.BUCKET), "Expected the milk bucket to be exchanged for a bucket");
+
+		expect(use(context, player, POS, Items.BUCKET).isAccepted(), "Expected a bucket to empty the full cauldron");
+		context.expectBlock(Blocks.CAULDRON, POS);
+		expect(player.getStackInHand(Hand.MAIN_HAND).isOf(Items.MILK_BUCKET), "Expected the bucket to be exchanged for a milk bucket");
+
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void vanillaBucketsStillWork(TestContext context) {
+		PlayerEntity player = context.createMockPlayer();
+		context.setBlockState(POS, Blocks.CAULDRON.getDefaultState());
+
+		expect(use(context, player, POS, Items.WATER_BUCKET).isAccepted(), "Expected a water bucket to fill an empty cauldron");
+		context.expectBlock(Blocks.WATER_CAULDRON, POS);
+		expectFluidLevel(context, POS, 3);
+
+		expect(use(context, player, POS, Items.BUCKET).isAccepted(), "Expected a bucket to empty the water cauldron");
+		context.expectBlock(Blocks.CAULDRON, POS);
+
+		expect(use(context, player, POS, Items.LAVA_BUCKET).isAccepted(), "Expected a lava bucket to fill an empty cauldron");
+		context.expectBlock(Blocks.LAVA_CAULDRON, POS);
+
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void burningEntityUsesWater(TestContext context) {
+		context.setBlockState(POS, Blocks.WATER_CAULDRON.getDefaultState().with(LeveledCauldronBlock.LEVEL, 3));
+
+		PigEntity pig = context.spawnEntity(EntityType.PIG, POS);
+		pig.setOnFireFor(10);
+
+		context.addInstantFinalTask(() -> {
+			expect(!pig.isOnFire(), "Expected the pig to be extinguished");
+			expectFluidLevel(context, POS, 2);
+		});
+	}
+}
@@ -0,0 +1,128 @@
+package com.shnupbups.cauldronlib.gametest;
+
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.expect;
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.expectFluidLevel;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.LeveledCauldronBlock;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.state.FluidLevelChange;
+
+/**
+ * Checks CauldronLib's fluid level operations on modded and vanilla cauldrons.
+ */
+public class CauldronLevelTests implements FabricGameTest {
+	private static final BlockPos POS = new BlockPos(1, 1, 1);
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void threeLeveledCauldron(TestContext context) {
+		ServerWorld world = context.getWorld();
+		BlockPos absolute = context.getAbsolutePos(POS);
+		context.setBlockState(POS, CauldronLibTestMod.THREE_LEVELED_CAULDRON.getDefaultState());
+
+		expectFluidLevel(context, POS, 1);
+		expect(CauldronLib.getMaxFluidLevel(context.getBlockState(POS)) == 3, "Expected a maximum fluid level of 3");
+
+		expect(CauldronLib.incrementFluidLevel(context.getBlockState(POS), world, absolute, true, 2), "Expected incrementing to full to change the cauldron");
+		expectFluidLevel(context, POS, 3);
+		expect(CauldronLib.isFull(context.getBlockState(POS)), "Expected the cauldron to be full");
+		expect(CauldronLibTestMod.THREE_LEVELED_CAULDRON.getFluidBox(context.getBlockState(POS)).maxY == 0.9375D, "Expected a full fluid box");
+
+		expect(!CauldronLib.incrementFluidLevel(context.getBlockState(POS), world, absolute, true, 1), "Expected a required increment past full to fail");
+		expect(!CauldronLib.incrementFluidLevel(context.getBlockState(POS), world, absolute, false, 5), "Expected a clamped increment of a full cauldron to change nothing");
+		expectFluidLevel(context, POS, 3);
+
+		expect(!CauldronLib.decrementFluidLevel(context.getBlockState(POS), world, absolute, true, 4), "Expected a required decrement past empty to fail");
+		expect(CauldronLib.decrementFluidLevel(context.getBlockState(POS), world, absolute, false, 10), "Expected a clamped decrement to empty the cauldron");
+		context.expectBlock(Blocks.CAULDRON, POS);
+
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void fullCauldron(TestContext context) {
+		ServerWorld world = context.getWorld();
+		BlockPos absolute = context.getAbsolutePos(POS);
+		context.setBlockState(POS, CauldronLibTestMod.FULL_CAULDRON.getDefaultState());
+
+		expectFluidLevel(context, POS, 1);
+		expect(CauldronLib.isFull(context.getBlockState(POS)), "Expected the cauldron to be full");
+		expect(CauldronLib.planSetFluidLevel(context.getBlockState(POS), true, 2).result() == FluidLevelChange.Result.OUT_OF_RANGE, "Expected level 2 to be out of range");
+		expect(CauldronLib.planSetFluidLevel(context.getBlockState(POS), true, 1).result() == FluidLevelChange.Result.UNCHANGED, "Expected level 1 to be unchanged");
+
+		expect(CauldronLib.setFluidLevel(context.getBlockState(POS), world, absolute, 0), "Expected setting level 0 to empty the cauldron");
+		context.expectBlock(Blocks.CAULDRON, POS);
+
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void vanillaCauldrons(TestContext context) {
+		ServerWorld world = context.getWorld();
+		BlockPos absolute = context.getAbsolutePos(POS);
+
+		context.setBlockState(POS, Blocks.WATER_CAULDRON.getDefaultState());
+		expectFluidLevel(context, POS, 1);
+		expect(CauldronLib.setFluidLevel(context.getBlockState(POS), world, absolute, 3), "Expected setting level 3 to change the water cauldron");
+		expect(context.getBlockState(POS).get(LeveledCauldronBlock.LEVEL) == 3, "Expected the water cauldron's level property to be 3");
+		expect(CauldronLib.decrementFluidLevel(context.getBlockState(POS), world, absolute, true, 3), "Expected decrementing to empty the water cauldron");
+		context.expectBlock(Blocks.CAULDRON, POS);
+
+		expectFluidLevel(context, POS, 0);
+		expect(CauldronLib.getMaxFluidLevel(context.getBlockState(POS)) == 0, "Expected an empty cauldron to have a maximum fluid level of 0");
+		expect(!CauldronLib.setFluidLevel(context.getBlockState(POS), world, absolute, 1), "Expected an empty cauldron's level to not be settable");
+
+		context.setBlockState(POS, Blocks.LAVA_CAULDRON.getDefaultState());
+		expectFluidLevel(context, POS, 1);
+		expect(CauldronLib.isFull(context.getBlockState(POS)), "Expected the lava cauldron to be full");
+
+		expect(CauldronLib.getFluidLevel(Blocks.STONE.getDefaultState()) == -1, "Expected stone to not be a cauldron");
+		expect(CauldronLib.planSetFluidLevel(Blocks.STONE.getDefaultState(), false, 1).result() == FluidLevelChange.Result.NOT_A_CAULDRON, "Expected stone to not be a cauldron");
+
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void bulkLevels(TestContext context) {
+		BlockState[] states = {
+				CauldronLibTestMod.THREE_LEVELED_CAULDRON.getDefaultState(),
+				Blocks.WATER_CAULDRON.getDefaultState(),
+				CauldronLibTestMod.FULL_CAULDRON.getDefaultState(),
+				Blocks.CAULDRON.getDefaultState()
+		};
+		List<BlockPos> positions = new ArrayList<>();
+
+		for (BlockPos pos : BlockPos.iterate(0, 1, 0, CauldronTestHelper.SIZE - 1, 1, CauldronTestHelper.SIZE - 1)) {
+			context.setBlockState(pos, states[positions.size() % states.length]);
+			positions.add(context.getAbsolutePos(pos));
+		}
+
+		BitSet changed = CauldronLib.setFluidLevels(context.getWorld(), positions, false, 100);
+
+		for (int i = 0; i < positions.size(); i++) {
+			BlockState state = context.getWorld().getBlockState(positions.get(i));
+			boolean leveled = i % states.length < 2;
+
+			expect(changed.get(i) == leveled, "Expected only leveled cauldrons to change, but " + state + " at " + positions.get(i) + " didn't");
+			expect(state.getBlock() == states[i % states.length].getBlock(), "Expected " + positions.get(i) + " to keep its block, got " + state);
+			expect(!leveled || CauldronLib.isFull(state), "Expected " + positions.get(i) + " to be clamped to full, got " + state);
+		}
+
+		expect(CauldronLib.getCauldronsInRange(context.getWorld(), context.getAbsolutePos(BlockPos.ORIGIN), CauldronTestHelper.SIZE).containsAll(positions),
+				"Expected every placed cauldron to be found");
+
+		context.complete();
+	}
+}
@@ -0,0 +1,67 @@
+package com.shnupbups.cauldronlib.gametest;
+
+import java.util.Map;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.object.builder.v1.block.FabricBlockSettings;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.ItemUsage;
+import net.minecraft.item.Items;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.block.FullCauldronBlock;
+import com.shnupbups.cauldronlib.block.ThreeLeveledCauldronBlock;
+
+/**
+ * Registers the cauldrons the game tests use.
+ *
+ * <p>Honey bottles fill the three leveled cauldron a level at a time and glass bottles take a level back out.
+ * Milk buckets fill the full cauldron and buckets empty it.
+ */
+public class CauldronLibTestMod implements ModInitializer {
+	public static final String MOD_ID = "cauldronlib-gametest";
+
+	public static final Map<Item, CauldronBehavior> THREE_LEVELED_CAULDRON_BEHAVIOR = CauldronLib.createBehaviorMap();
+	public static final Map<Item, CauldronBehavior> FULL_CAULDRON_BEHAVIOR = CauldronLib.createBehaviorMap();
+
+	public static final ThreeLeveledCauldronBlock THREE_LEVELED_CAULDRON = new ThreeLeveledCauldronBlock(FabricBlockSettings.copyOf(Blocks.CAULDRON), THREE_LEVELED_CAULDRON_BEHAVIOR);
+	public static final FullCauldronBlock FULL_CAULDRON = new FullCauldronBlock(FabricBlockSettings.copyOf(Blocks.CAULDRON), FULL_CAULDRON_BEHAVIOR);
+
+	@Override
+	public void onInitialize() {
+		Registry.register(Registry.BLOCK, id("three_leveled_cauldron"), THREE_LEVELED_CAULDRON);
+		Registry.register(Registry.BLOCK, id("full_cauldron"), FULL_CAULDRON);
+
+		CauldronLib.registerGlobalBehavior(Items.HONEY_BOTTLE, CauldronLib.createFillFromBottleBehavior(THREE_LEVELED_CAULDRON));
+		THREE_LEVELED_CAULDRON_BEHAVIOR.put(Items.HONEY_BOTTLE, createChangeLevelBehavior(1, Items.GLASS_BOTTLE));
+		THREE_LEVELED_CAULDRON_BEHAVIOR.put(Items.GLASS_BOTTLE, createChangeLevelBehavior(-1, Items.HONEY_BOTTLE));
+
+		CauldronLib.registerGlobalBehavior(Items.MILK_BUCKET, CauldronLib.createFillFromBucketBehavior(FULL_CAULDRON));
+		FULL_CAULDRON_BEHAVIOR.put(Items.BUCKET, CauldronLib.createEmptyIntoBucketBehavior(Items.MILK_BUCKET));
+	}
+
+	public static Identifier id(String path) {
+		return new Identifier(MOD_ID, path);
+	}
+
+	private static CauldronBehavior createChangeLevelBehavior(int amount, Item result) {
+		return (state, world, pos, player, hand, stack) -> {
+			if (!CauldronLib.planIncrementFluidLevel(state, true, amount).isApplicable()) return ActionResult.PASS;
+
+			if (!world.isClient) {
+				player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, new ItemStack(result)));
+				CauldronLib.incrementFluidLevel(state, world, pos, true, amount);
+			}
+
+			return ActionResult.success(world.isClient);
+		};
+	}
+}
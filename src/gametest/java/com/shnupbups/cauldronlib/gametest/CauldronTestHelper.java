@@ -0,0 +1,82 @@
+package com.shnupbups.cauldronlib.gametest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+/**
+ * Shared setup and checks for the game tests.
+ */
+final class CauldronTestHelper {
+	/**
+	 * The size along each axis of the empty structure the tests run in.
+	 */
+	static final int SIZE = 8;
+
+	/**
+	 * A larger empty structure, for tests that need thousands of blocks.
+	 */
+	static final String LARGE_STRUCTURE = "cauldronlib-gametest:large_empty";
+
+	/**
+	 * The size along each axis of {@link #LARGE_STRUCTURE}.
+	 */
+	static final int LARGE_SIZE = 16;
+
+	private CauldronTestHelper() {
+	}
+
+	static void expect(boolean condition, String message) {
+		if (!condition) throw new GameTestException(message);
+	}
+
+	static void expectFluidLevel(TestContext context, BlockPos pos, int level) {
+		int actual = CauldronLib.getFluidLevel(context.getBlockState(pos));
+		if (actual != level) throw new GameTestException("Expected fluid level " + level + " at " + pos + ", got " + actual);
+	}
+
+	/**
+	 * Fills the whole test structure with a block state, returning the absolute positions filled.
+	 */
+	static List<BlockPos> fill(TestContext context, BlockState state) {
+		return fill(context, state, SIZE);
+	}
+
+	/**
+	 * Fills a cube of the given size at the corner of the test structure with a block state, returning the absolute positions filled.
+	 */
+	static List<BlockPos> fill(TestContext context, BlockState state, int size) {
+		List<BlockPos> positions = new ArrayList<>(size * size * size);
+
+		for (BlockPos pos : BlockPos.iterate(0, 0, 0, size - 1, size - 1, size - 1)) {
+			context.setBlockState(pos, state);
+			positions.add(context.getAbsolutePos(pos));
+		}
+
+		return positions;
+	}
+
+	/**
+	 * Has a player use an item on a cauldron, returning the result of the interaction.
+	 */
+	static ActionResult use(TestContext context, PlayerEntity player, BlockPos pos, Item item) {
+		BlockPos absolute = context.getAbsolutePos(pos);
+		player.setStackInHand(Hand.MAIN_HAND, new ItemStack(item));
+
+		return context.getBlockState(pos).onUse(context.getWorld(), player, Hand.MAIN_HAND, new BlockHitResult(Vec3d.ofCenter(absolute), Direction.UP, absolute, false));
+	}
+}
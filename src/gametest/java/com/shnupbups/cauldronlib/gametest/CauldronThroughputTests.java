@@ -0,0 +1,138 @@
+package com.shnupbups.cauldronlib.gametest;
+
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.expect;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+/**
+ * Fills a large test structure with thousands of cauldrons and cycles every one of them through its fluid levels each tick,
+ * checking the results and logging how long each tick took.
+ *
+ * <p>Absolute tick times depend too much on the machine running the tests to be asserted. Instead, each custom cauldron kind
+ * is first cycled as vanilla water cauldrons in the same positions, and has to take no more than {@link #BUDGET_FACTOR}
+ * times as long per cauldron.
+ */
+public class CauldronThroughputTests implements FabricGameTest {
+	private static final Logger LOGGER = LogManager.getLogger("CauldronLib GameTest");
+	private static final int TICKS = 100;
+	private static final int WARMUP_TICKS = 20;
+	private static final double BUDGET_FACTOR = 4.0D;
+
+	@GameTest(structureName = CauldronTestHelper.LARGE_STRUCTURE, tickLimit = TICKS * 2 + 20)
+	public void threeLeveledCauldrons(TestContext context) {
+		compareToWater(context, "three leveled", CauldronLibTestMod.THREE_LEVELED_CAULDRON.getDefaultState());
+	}
+
+	@GameTest(structureName = CauldronTestHelper.LARGE_STRUCTURE, tickLimit = TICKS * 2 + 20)
+	public void fullCauldrons(TestContext context) {
+		compareToWater(context, "full", CauldronLibTestMod.FULL_CAULDRON.getDefaultState());
+	}
+
+	@GameTest(structureName = CauldronTestHelper.LARGE_STRUCTURE, tickLimit = TICKS + 20)
+	public void waterCauldrons(TestContext context) {
+		List<BlockPos> positions = CauldronTestHelper.fill(context, Blocks.WATER_CAULDRON.getDefaultState(), CauldronTestHelper.LARGE_SIZE);
+		long[] nanos = cycle(context, positions, Blocks.WATER_CAULDRON.getDefaultState(), 1);
+
+		context.waitAndRun(TICKS + 1, () -> {
+			log(context, "water", positions.size(), nanos);
+			context.complete();
+		});
+	}
+
+	/**
+	 * Cycles water cauldrons as a baseline, then the given kind in the same positions, and fails if the given kind
+	 * takes more than {@link #BUDGET_FACTOR} times as long per cauldron.
+	 */
+	private static void compareToWater(TestContext context, String name, BlockState filled) {
+		List<BlockPos> positions = CauldronTestHelper.fill(context, Blocks.WATER_CAULDRON.getDefaultState(), CauldronTestHelper.LARGE_SIZE);
+		long[] waterNanos = cycle(context, positions, Blocks.WATER_CAULDRON.getDefaultState(), 1);
+
+		context.waitAndRun(TICKS + 1, () -> CauldronTestHelper.fill(context, filled, CauldronTestHelper.LARGE_SIZE));
+		long[] nanos = cycle(context, positions, filled, TICKS + 2);
+
+		context.waitAndRun(TICKS * 2 + 2, () -> {
+			double water = log(context, "water", positions.size(), waterNanos);
+			double custom = log(context, name, positions.size(), nanos);
+
+			expect(custom <= water * BUDGET_FACTOR, String.format("Expected %s cauldrons to take at most %.1fx as long as water cauldrons, took %.0f ns per cauldron against %.0f ns",
+					name, BUDGET_FACTOR, custom, water));
+			context.complete();
+		});
+	}
+
+	/**
+	 * Schedules {@link #TICKS} ticks starting at the given tick, each setting every cauldron to the next fluid level,
+	 * wrapping around to empty. Empty cauldrons are refilled by placing the block directly, like a bucket would,
+	 * as an empty cauldron's level can't be set.
+	 *
+	 * @return the array the time taken by each tick is written to
+	 */
+	private static long[] cycle(TestContext context, List<BlockPos> positions, BlockState filled, int startTick) {
+		ServerWorld world = context.getWorld();
+		int maxLevel = CauldronLib.getMaxFluidLevel(filled);
+		long[] nanos = new long[TICKS];
+
+		for (int tick = 0; tick < TICKS; tick++) {
+			int currentTick = tick;
+			int level = (CauldronLib.getFluidLevel(filled) + tick + 1) % (maxLevel + 1);
+
+			context.waitAndRun(startTick + tick, () -> {
+				long start = System.nanoTime();
+
+				if (level == 1) {
+					BlockState state = CauldronLib.getStateForLevel(filled, 1);
+					for (BlockPos pos : positions) {
+						world.setBlockState(pos, state);
+					}
+				} else {
+					BitSet changed = CauldronLib.setFluidLevels(world, positions, true, level);
+					expect(changed.cardinality() == positions.size(), "Expected all " + positions.size() + " cauldrons to change to level " + level + ", only " + changed.cardinality() + " did");
+				}
+
+				nanos[currentTick] = System.nanoTime() - start;
+
+				for (BlockPos pos : positions) {
+					int actual = CauldronLib.getFluidLevel(world.getBlockState(pos));
+					expect(actual == level, "Expected fluid level " + level + " at " + pos + ", got " + actual);
+				}
+			});
+		}
+
+		return nanos;
+	}
+
+	/**
+	 * Logs the tick times of a run, returning the average time per cauldron per tick after warm-up, in nanoseconds.
+	 */
+	private static double log(TestContext context, String name, int cauldrons, long[] nanos) {
+		long total = 0;
+		long max = 0;
+
+		for (int tick = WARMUP_TICKS; tick < nanos.length; tick++) {
+			total += nanos[tick];
+			max = Math.max(max, nanos[tick]);
+		}
+
+		int ticks = nanos.length - WARMUP_TICKS;
+		LOGGER.info("Cycled {} {} cauldrons for {} ticks after warm-up: {} ms per tick on average, {} ms at most, server averaging {} MSPT",
+				cauldrons, name, ticks, String.format("%.3f", total / 1.0E6D / ticks), String.format("%.3f", max / 1.0E6D),
+				String.format("%.3f", context.getWorld().getServer().getTickTime()));
+
+		return (double) total / ticks / cauldrons;
+	}
+}
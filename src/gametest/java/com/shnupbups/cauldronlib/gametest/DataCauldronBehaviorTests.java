@@ -0,0 +1,52 @@
+package com.shnupbups.cauldronlib.gametest;
+
+import static com.shnupbups.cauldronlib.gametest.CauldronTestHelper.expect;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.item.Items;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.behavior.DataCauldronBehavior;
+
+/**
+ * Checks the block states data cauldron behaviors result in.
+ */
+public class DataCauldronBehaviorTests implements FabricGameTest {
+	private static final BlockState EMPTY = Blocks.CAULDRON.getDefaultState();
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void fillEmptyToLevelOne(TestContext context) {
+		BlockState result = fill(CauldronLibTestMod.THREE_LEVELED_CAULDRON, 1).getResultState(EMPTY);
+
+		expect(result != null && result.isOf(CauldronLibTestMod.THREE_LEVELED_CAULDRON), "Expected filling an empty cauldron to level 1 to change it, got " + result);
+		expect(CauldronLib.getFluidLevel(result) == 1, "Expected level 1, got " + CauldronLib.getFluidLevel(result));
+
+		BlockState water = fill(Blocks.WATER_CAULDRON, 1).getResultState(EMPTY);
+		expect(water != null && water.isOf(Blocks.WATER_CAULDRON) && CauldronLib.getFluidLevel(water) == 1, "Expected a level 1 water cauldron, got " + water);
+
+		context.complete();
+	}
+
+	@GameTest(structureName = EMPTY_STRUCTURE)
+	public void fillEmptyToFull(TestContext context) {
+		BlockState result = fill(CauldronLibTestMod.FULL_CAULDRON, 1).getResultState(EMPTY);
+		expect(result != null && result.isOf(CauldronLibTestMod.FULL_CAULDRON), "Expected filling an empty cauldron to give a full cauldron, got " + result);
+
+		BlockState lava = fill(Blocks.LAVA_CAULDRON, 3).getResultState(EMPTY);
+		expect(lava != null && lava.isOf(Blocks.LAVA_CAULDRON), "Expected filling past a full cauldron's only level to be clamped, got " + lava);
+
+		expect(fill(CauldronLibTestMod.FULL_CAULDRON, 1).getResultState(CauldronLibTestMod.FULL_CAULDRON.getDefaultState()) == null, "Expected filling a full cauldron to not apply");
+
+		context.complete();
+	}
+
+	private static DataCauldronBehavior fill(Block target, int level) {
+		return new DataCauldronBehavior(DataCauldronBehavior.Type.FILL, Items.HONEY_BOTTLE, null, null, target, level, null, null);
+	}
+}
@@ -0,0 +1,76 @@
+package com.shnupbups.cauldronlib.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.behavior.ArrayCauldronBehaviorMap;
+import com.shnupbups.cauldronlib.behavior.LayeredCauldronBehaviorMap;
+
+/**
+ * Measures looking every item up in a cauldron behavior map, as happens once per cauldron use.
+ *
+ * <p>Compares vanilla's hash map with {@link ArrayCauldronBehaviorMap}, both on its own and as both layers of a {@link LayeredCauldronBehaviorMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BehaviorMapDispatchBenchmark {
+	@Param({"hash", "array", "layered"})
+	public String mapType;
+
+	private Map<Item, CauldronBehavior> map;
+	private Item[] items;
+
+	@Setup
+	public void setup() {
+		MinecraftBootstrap.initialize();
+
+		Map<Item, CauldronBehavior> source = CauldronBehavior.WATER_CAULDRON_BEHAVIOR;
+
+		map = switch (mapType) {
+			case "hash" -> {
+				Map<Item, CauldronBehavior> hash = CauldronBehavior.createMap();
+				hash.putAll(source);
+				yield hash;
+			}
+			case "array" -> new ArrayCauldronBehaviorMap(source);
+			case "layered" -> {
+				// Global behaviors in the shared layer, one cauldron-specific behavior in the local one
+				ArrayCauldronBehaviorMap global = new ArrayCauldronBehaviorMap();
+				CauldronBehavior.registerBucketBehavior(global);
+				ArrayCauldronBehaviorMap local = new ArrayCauldronBehaviorMap(source);
+				yield new LayeredCauldronBehaviorMap(local, global);
+			}
+			default -> throw new IllegalArgumentException("Unknown map type " + mapType);
+		};
+
+		items = Registry.ITEM.stream().toArray(Item[]::new);
+	}
+
+	@Benchmark
+	public void lookupEveryItem(Blackhole blackhole) {
+		for (Item item : items) {
+			blackhole.consume(map.get(item));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.shnupbups.cauldronlib.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+
+import com.shnupbups.cauldronlib.behavior.CauldronBehaviorMapRegistry;
+
+/**
+ * Measures how registering and checking behavior maps in a {@link CauldronBehaviorMapRegistry} scales with the number of maps.
+ *
+ * <p>The maps are all empty, so they are equal to each other, which is the case identity tracking exists for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BehaviorMapRegistryBenchmark {
+	@Param({"16", "256", "4096"})
+	public int size;
+
+	private Map<Item, CauldronBehavior>[] maps;
+	private CauldronBehaviorMapRegistry registry;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		MinecraftBootstrap.initialize();
+
+		maps = new Map[size];
+		registry = new CauldronBehaviorMapRegistry();
+
+		for (int i = 0; i < size; i++) {
+			maps[i] = CauldronBehavior.createMap();
+			registry.register(maps[i], (i & 1) == 0);
+		}
+	}
+
+	@Benchmark
+	public CauldronBehaviorMapRegistry registerAll() {
+		CauldronBehaviorMapRegistry registry = new CauldronBehaviorMapRegistry();
+		for (Map<Item, CauldronBehavior> map : maps) {
+			registry.register(map, false);
+		}
+
+		return registry;
+	}
+
+	@Benchmark
+	public void containsAll(Blackhole blackhole) {
+		for (Map<Item, CauldronBehavior> map : maps) {
+			blackhole.consume(registry.contains(map));
+		}
+	}
+
+	@Benchmark
+	public void iterateFlatMaps(Blackhole blackhole) {
+		for (Map<Item, CauldronBehavior> map : registry.getFlatBehaviorMaps()) {
+			blackhole.consume(map);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.shnupbups.cauldronlib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.minecraft.block.AbstractBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.LeveledCauldronBlock;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.block.AbstractLeveledCauldronBlock;
+import com.shnupbups.cauldronlib.block.FullCauldronBlock;
+import com.shnupbups.cauldronlib.block.ThreeLeveledCauldronBlock;
+
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+import com.shnupbups.cauldronlib.state.FluidLevelChange;
+
+/**
+ * Compares looking cauldron fluid levels up in {@link CauldronStateTable} against the {@code instanceof} chain it replaced,
+ * and measures planning level changes from the precomputed transition tables.
+ *
+ * <p>The states include CauldronLib's own {@link ThreeLeveledCauldronBlock} and {@link FullCauldronBlock}, registered by
+ * the benchmark. {@link com.shnupbups.cauldronlib.block.MultiLeveledCauldronBlock} is left out, as its settings need Fabric's
+ * block settings mixins, which aren't applied outside of a Fabric launch. It is looked up the same way as three leveled cauldrons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CauldronStateTableBenchmark {
+	private static Block threeLeveledCauldron;
+	private static Block fullCauldron;
+
+	private BlockState[] states;
+
+	@Setup
+	public void setup() {
+		MinecraftBootstrap.initialize();
+		registerCustomCauldrons();
+
+		List<BlockState> states = new ArrayList<>();
+		for (Block block : new Block[] {Blocks.CAULDRON, Blocks.WATER_CAULDRON, Blocks.LAVA_CAULDRON, Blocks.POWDER_SNOW_CAULDRON, threeLeveledCauldron, fullCauldron, Blocks.STONE, Blocks.HOPPER}) {
+			states.addAll(block.getStateManager().getStates());
+		}
+
+		this.states = states.toArray(new BlockState[0]);
+		// Builds the table outside of the measurement
+		CauldronStateTable.get(this.states[0]);
+	}
+
+	/**
+	 * Registers the custom cauldrons and gives their states raw ids, as the game would when registering modded blocks.
+	 */
+	private static synchronized void registerCustomCauldrons() {
+		if (threeLeveledCauldron != null) return;
+
+		threeLeveledCauldron = register("three_leveled_cauldron", new ThreeLeveledCauldronBlock(AbstractBlock.Settings.copy(Blocks.CAULDRON), CauldronBehavior.createMap()));
+		fullCauldron = register("full_cauldron", new FullCauldronBlock(AbstractBlock.Settings.copy(Blocks.CAULDRON), CauldronBehavior.createMap()));
+	}
+
+	private static Block register(String name, Block block) {
+		Registry.register(Registry.BLOCK, new Identifier("cauldronlib_benchmark", name), block);
+		block.getStateManager().getStates().forEach(Block.STATE_IDS::add);
+		return block;
+	}
+
+	@Benchmark
+	public void tableLookup(Blackhole blackhole) {
+		for (BlockState state : states) {
+			blackhole.consume(CauldronStateTable.getFluidLevel(CauldronStateTable.get(state)));
+		}
+	}
+
+	@Benchmark
+	public void instanceofLookup(Blackhole blackhole) {
+		for (BlockState state : states) {
+			Block block = state.getBlock();
+			int level;
+
+			if (block instanceof AbstractLeveledCauldronBlock leveledBlock) {
+				level = leveledBlock.getFluidLevel(state);
+			} else if (block instanceof FullCauldronBlock || block == Blocks.LAVA_CAULDRON) {
+				level = 1;
+			} else if (block instanceof LeveledCauldronBlock) {
+				level = state.get(LeveledCauldronBlock.LEVEL);
+			} else if (block == Blocks.CAULDRON) {
+				level = 0;
+			} else {
+				level = -1;
+			}
+
+			blackhole.consume(level);
+		}
+	}
+
+	@Benchmark
+	public void transitions(Blackhole blackhole) {
+		for (BlockState state : states) {
+			blackhole.consume(CauldronStateTable.getTransitions(state));
+		}
+	}
+
+	@Benchmark
+	public void planLevelChange(Blackhole blackhole) {
+		for (BlockState state : states) {
+			blackhole.consume(FluidLevelChange.plan(state, false, 2));
+		}
+	}
+}
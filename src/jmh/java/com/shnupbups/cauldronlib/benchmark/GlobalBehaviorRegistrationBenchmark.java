@@ -0,0 +1,75 @@
+package com.shnupbups.cauldronlib.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.behavior.CauldronBehaviorMapRegistry;
+import com.shnupbups.cauldronlib.behavior.GlobalCauldronBehaviorTable;
+
+/**
+ * Measures registering global behaviors, as {@link CauldronLib#registerGlobalBehavior(Item, CauldronBehavior)} does,
+ * and how it scales with the number of flat behavior maps they are copied into and the number of items registered.
+ *
+ * <p>Works on its own {@link GlobalCauldronBehaviorTable} and {@link CauldronBehaviorMapRegistry}, rebuilt before every
+ * invocation, as CauldronLib's own only ever grow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalBehaviorRegistrationBenchmark {
+	@Param({"10", "100", "1000"})
+	public int maps;
+
+	@Param({"10", "100", "1000"})
+	public int items;
+
+	private Item[] registered;
+	private GlobalCauldronBehaviorTable table;
+
+	@Setup(Level.Trial)
+	public void setupItems() {
+		MinecraftBootstrap.initialize();
+
+		registered = Registry.ITEM.stream().limit(items).toArray(Item[]::new);
+		if (registered.length < items) throw new IllegalStateException("Only " + registered.length + " items are registered, " + items + " are needed");
+	}
+
+	@Setup(Level.Invocation)
+	public void setupMaps() {
+		CauldronBehaviorMapRegistry registry = new CauldronBehaviorMapRegistry();
+		for (int i = 0; i < maps; i++) {
+			registry.register(CauldronBehavior.createMap(), false);
+		}
+
+		table = new GlobalCauldronBehaviorTable(registry);
+	}
+
+	@Benchmark
+	public GlobalCauldronBehaviorTable registerGlobalBehaviors() {
+		for (Item item : registered) {
+			table.put(item, CauldronLib.PASS_BEHAVIOR);
+		}
+
+		return table;
+	}
+}
@@ -0,0 +1,22 @@
+package com.shnupbups.cauldronlib.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+
+/**
+ * Bootstraps the vanilla registries, so benchmarks can use blocks, items and block states without a running game or world.
+ */
+final class MinecraftBootstrap {
+	private static boolean initialized;
+
+	private MinecraftBootstrap() {
+	}
+
+	static synchronized void initialize() {
+		if (initialized) return;
+		initialized = true;
+
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+	}
+}
@@ -1,9 +1,27 @@
 package com.shnupbups.cauldronlib;
 
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.command.v1.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.registry.RegistryIdRemapCallback;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
 
 import net.minecraft.block.AbstractCauldronBlock;
 import net.minecraft.block.Block;
@@ -11,56 +29,309 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.LeveledCauldronBlock;
 import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.fluid.Fluid;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemUsage;
 import net.minecraft.item.Items;
+import net.minecraft.resource.ResourceType;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.stat.Stats;
+import net.minecraft.tag.Tag;
 import net.minecraft.util.ActionResult;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
 import net.minecraft.world.event.GameEvent;
 
+import com.shnupbups.cauldronlib.behavior.ArrayCauldronBehaviorMap;
+import com.shnupbups.cauldronlib.behavior.CauldronBehaviorChains;
+import com.shnupbups.cauldronlib.behavior.CauldronBehaviorMapRegistry;
+import com.shnupbups.cauldronlib.behavior.CauldronBehaviorRules;
+import com.shnupbups.cauldronlib.behavior.CauldronBehaviorSnapshot;
+import com.shnupbups.cauldronlib.behavior.DataCauldronBehaviorLoader;
+import com.shnupbups.cauldronlib.behavior.GlobalCauldronBehaviorTable;
+import com.shnupbups.cauldronlib.behavior.LayeredCauldronBehaviorMap;
 import com.shnupbups.cauldronlib.block.AbstractLeveledCauldronBlock;
 import com.shnupbups.cauldronlib.block.FullCauldronBlock;
+import com.shnupbups.cauldronlib.block.entity.HighResolutionCauldronBlockEntity;
+import com.shnupbups.cauldronlib.fluid.CauldronFluid;
+import com.shnupbups.cauldronlib.fluid.CauldronFluidRegistry;
+import com.shnupbups.cauldronlib.fluid.CauldronFluidStorage;
+import com.shnupbups.cauldronlib.metrics.CauldronMetrics;
+import com.shnupbups.cauldronlib.metrics.CauldronMetricsCommand;
+import com.shnupbups.cauldronlib.mixin.AbstractCauldronBlockAccessor;
+import com.shnupbups.cauldronlib.state.CauldronDescriptor;
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+import com.shnupbups.cauldronlib.state.FluidLevelChange;
+import com.shnupbups.cauldronlib.world.CauldronBulkUpdater;
+import com.shnupbups.cauldronlib.world.CauldronChunkIndex;
+import com.shnupbups.cauldronlib.world.CauldronDripstoneFill;
+import com.shnupbups.cauldronlib.world.CauldronPrecipitationScheduler;
+import com.shnupbups.cauldronlib.world.CauldronUpdateBatch;
+
+public class CauldronLib implements ModInitializer {
+	public static final Logger LOGGER = LogManager.getLogger("CauldronLib");
+
+	/**
+	 * A cauldron behavior that does nothing, used as the default return value of behavior maps.
+	 */
+	public static final CauldronBehavior PASS_BEHAVIOR = (state, world, pos, player, hand, stack) -> ActionResult.PASS;
+
+	private static final CauldronBehaviorMapRegistry CAULDRON_BEHAVIOR_MAPS = Util.make(new CauldronBehaviorMapRegistry(), (registry) -> {
+		registry.register(CauldronBehavior.EMPTY_CAULDRON_BEHAVIOR, false);
+		registry.register(CauldronBehavior.WATER_CAULDRON_BEHAVIOR, false);
+		registry.register(CauldronBehavior.LAVA_CAULDRON_BEHAVIOR, false);
+		registry.register(CauldronBehavior.POWDER_SNOW_CAULDRON_BEHAVIOR, false);
+	});
+
+	private static final Set<CauldronBehaviorMapEntry> GLOBAL_BEHAVIORS = new LinkedHashSet<>();
+	private static final Set<CauldronBehaviorMapEntry> GLOBAL_BEHAVIORS_VIEW = Collections.unmodifiableSet(GLOBAL_BEHAVIORS);
+
+	private static final CauldronMetrics METRICS = new CauldronMetrics();
+
+	private static final ItemStack BUCKET_TEMPLATE = new ItemStack(Items.BUCKET);
+	private static final ItemStack GLASS_BOTTLE_TEMPLATE = new ItemStack(Items.GLASS_BOTTLE);
+
+	private static final Box[] VANILLA_LEVELED_FLUID_BOXES = Util.make(new Box[4], (boxes) -> {
+		for (int level = 0; level < boxes.length; level++) {
+			boxes[level] = createFluidBox((6.0D + level * 3.0D) / 16.0D);
+		}
+	});
+
+	/**
+	 * The shared layer of every {@link LayeredCauldronBehaviorMap}, holding the bucket behaviors and all global behaviors.
+	 */
+	private static final GlobalCauldronBehaviorTable GLOBAL_BEHAVIOR_TABLE = new GlobalCauldronBehaviorTable(CAULDRON_BEHAVIOR_MAPS);
+
+	private static final CauldronBehaviorRules GLOBAL_BEHAVIOR_RULES = new CauldronBehaviorRules(GLOBAL_BEHAVIOR_TABLE);
+
+	private static final CauldronBehaviorChains BEHAVIOR_CHAINS = new CauldronBehaviorChains(GLOBAL_BEHAVIOR_TABLE, CAULDRON_BEHAVIOR_MAPS);
+
+	private static final DataCauldronBehaviorLoader DATA_BEHAVIORS = new DataCauldronBehaviorLoader(GLOBAL_BEHAVIOR_TABLE);
+
+	private static volatile boolean frozen = false;
+
+	@Nullable
+	private static volatile CauldronBehaviorSnapshot snapshot = null;
 
-public class CauldronLib {
-	private static final Set<Map<Item, CauldronBehavior>> CAULDRON_BEHAVIOR_MAPS = new HashSet<>(Set.of(
-			CauldronBehavior.EMPTY_CAULDRON_BEHAVIOR,
-			CauldronBehavior.WATER_CAULDRON_BEHAVIOR,
-			CauldronBehavior.LAVA_CAULDRON_BEHAVIOR,
-			CauldronBehavior.POWDER_SNOW_CAULDRON_BEHAVIOR
-	));
+	@Override
+	public void onInitialize() {
+		RegistryIdRemapCallback.event(Registry.ITEM).register((state) -> ArrayCauldronBehaviorMap.rebuildAll());
+		RegistryIdRemapCallback.event(Registry.BLOCK).register((state) -> CauldronStateTable.invalidate());
+		ServerLifecycleEvents.SERVER_STARTING.register((server) -> {
+			compactBehaviorMaps();
+			freeze();
+		});
+		ServerChunkEvents.CHUNK_LOAD.register(CauldronPrecipitationScheduler::onChunkLoad);
+		ServerTickEvents.END_WORLD_TICK.register(CauldronPrecipitationScheduler::tick);
+		ServerTickEvents.END_WORLD_TICK.register(CauldronUpdateBatch::flush);
+		CommandRegistrationCallback.EVENT.register((dispatcher, dedicated) -> CauldronMetricsCommand.register(dispatcher));
+		FluidStorage.SIDED.registerFallback((world, pos, state, blockEntity, direction) -> blockEntity instanceof HighResolutionCauldronBlockEntity highResolution ? highResolution.getStorage() : CauldronFluidStorage.find(world, pos, state));
+		ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(DATA_BEHAVIORS);
+		ServerLifecycleEvents.SERVER_STARTED.register((server) -> compileBehaviorRules());
+		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+			if (success) compileBehaviorRules();
+		});
+	}
+
+	/**
+	 * Freezes CauldronLib's registries, after which registering behavior maps, global behaviors, descriptors or fluids throws.
+	 *
+	 * <p>Called automatically once the game has started. Behavior chains are compiled when frozen.
+	 * Behaviors compiled from tags and data packs are still updated when data packs are reloaded.
+	 */
+	public static synchronized void freeze() {
+		if (frozen) return;
+		BEHAVIOR_CHAINS.compile();
+		frozen = true;
+		publishSnapshot();
+	}
+
+	/**
+	 * Whether CauldronLib's registries have been frozen.
+	 *
+	 * @see #freeze()
+	 */
+	public static boolean isFrozen() {
+		return frozen;
+	}
 
-	private static final Set<CauldronBehaviorMapEntry> GLOBAL_BEHAVIORS = new HashSet<>();
+	/**
+	 * Gets an immutable snapshot of all registered behavior maps and global behaviors.
+	 *
+	 * <p>Unlike the behavior maps themselves, snapshots can be read from any thread without locking.
+	 * The first snapshot is published when the registries are {@linkplain #freeze() frozen}, and a new one whenever tags are reloaded,
+	 * so changes made directly to registered maps are only picked up then.
+	 *
+	 * @throws IllegalStateException if CauldronLib has not been frozen yet, as the registries may still be changing
+	 */
+	public static CauldronBehaviorSnapshot getSnapshot() {
+		CauldronBehaviorSnapshot current = snapshot;
+		if (current == null) throw new IllegalStateException("Behavior snapshots are only available once CauldronLib has been frozen");
+		return current;
+	}
+
+	/**
+	 * Publishes a new snapshot. Only called when frozen, from the thread that froze CauldronLib or compiles behaviors.
+	 */
+	private static synchronized void publishSnapshot() {
+		snapshot = CauldronBehaviorSnapshot.of(CAULDRON_BEHAVIOR_MAPS, GLOBAL_BEHAVIOR_TABLE.getTable(), GLOBAL_BEHAVIORS);
+	}
+
+	/**
+	 * Throws if the registries are frozen.
+	 *
+	 * @param what what is being registered, for the exception message
+	 */
+	private static void beginRegistration(String what) {
+		if (frozen) throw new IllegalStateException("Cannot register " + what + " after CauldronLib has been frozen");
+	}
+
+	private static void compileBehaviorRules() {
+		GLOBAL_BEHAVIOR_RULES.compile();
+		DATA_BEHAVIORS.compile();
+		onBehaviorsCompiled();
+	}
+
+	/**
+	 * Compiles tag and predicate behaviors against the tags a client received from the server it is connected to.
+	 *
+	 * <p>Called automatically on clients connected to a remote server, which never start a server of their own to compile them.
+	 * Data pack behaviors are not compiled, as data packs only exist on the server.
+	 */
+	public static void compileClientBehaviorRules() {
+		GLOBAL_BEHAVIOR_RULES.compile();
+		onBehaviorsCompiled();
+	}
+
+	private static void onBehaviorsCompiled() {
+		if (frozen) publishSnapshot();
+	}
+
+	/**
+	 * Gets the metrics CauldronLib collects about cauldron fluid level changes and behavior dispatches.
+	 *
+	 * <p>Collection is disabled by default, and can be enabled with {@link CauldronMetrics#setEnabled(boolean)}
+	 * or the {@code /cauldronlib metrics enable} command.
+	 */
+	public static CauldronMetrics getMetrics() {
+		return METRICS;
+	}
+
+	/**
+	 * Creates a new, empty cauldron behavior map, backed by an array indexed by item raw id.
+	 *
+	 * <p>Can be used in place of {@link CauldronBehavior#createMap()}.
+	 */
+	public static Map<Item, CauldronBehavior> createBehaviorMap() {
+		return new ArrayCauldronBehaviorMap();
+	}
+
+	/**
+	 * Compacts all array-backed cauldron behavior maps.
+	 *
+	 * <p>Called automatically once the game has started and the item registry is frozen.
+	 *
+	 * @see ArrayCauldronBehaviorMap#compact()
+	 */
+	public static void compactBehaviorMaps() {
+		ArrayCauldronBehaviorMap.compactAll();
+	}
 
 	/**
 	 * Registers a cauldron behavior map.
 	 *
 	 * <p>Unnecessary if already parsed to {@link AbstractLeveledCauldronBlock} or {@link FullCauldronBlock}.
 	 *
+	 * <p>Registering the same map instance more than once has no effect.
+	 *
+	 * <p>Global behaviors are copied into maps registered this way. Maps only used through
+	 * {@link #createLayeredBehaviorMap(Map)} should be registered with {@link #registerLayeredBehaviorMap(Map)} instead.
+	 *
 	 * @param behaviorMap the behavior map to register
+	 * @see #tryRegisterBehaviorMap(Map)
 	 */
 	public static void registerBehaviorMap(Map<Item, CauldronBehavior> behaviorMap) {
-		CAULDRON_BEHAVIOR_MAPS.add(behaviorMap);
+		tryRegisterBehaviorMap(behaviorMap);
+	}
+
+	/**
+	 * Registers a cauldron behavior map, reporting whether it was already registered.
+	 *
+	 * @param behaviorMap the behavior map to register
+	 * @return {@code true} if the behavior map was not already registered
+	 * @see #registerBehaviorMap(Map)
+	 */
+	public static boolean tryRegisterBehaviorMap(Map<Item, CauldronBehavior> behaviorMap) {
+		beginRegistration("behavior map");
+		if (!CAULDRON_BEHAVIOR_MAPS.register(behaviorMap, false)) return false;
 		addGlobalBehaviors(behaviorMap);
+		return true;
+	}
+
+	/**
+	 * Registers a cauldron behavior map that is only used through {@link #createLayeredBehaviorMap(Map)}.
+	 *
+	 * <p>Global behaviors are not copied into maps registered this way, as layered maps look them up from a shared table instead.
+	 *
+	 * <p>Unnecessary if already parsed to {@link AbstractLeveledCauldronBlock} or {@link FullCauldronBlock}.
+	 *
+	 * @param behaviorMap the behavior map to register
+	 * @return {@code true} if the behavior map was not already registered
+	 */
+	public static boolean registerLayeredBehaviorMap(Map<Item, CauldronBehavior> behaviorMap) {
+		beginRegistration("behavior map");
+		return CAULDRON_BEHAVIOR_MAPS.register(behaviorMap, true);
+	}
+
+	/**
+	 * Creates a behavior map that looks behaviors up in the given map first, then in the shared table of bucket and global behaviors.
+	 *
+	 * <p>Behaviors put into the given map take precedence over global ones.
+	 *
+	 * @param behaviorMap the cauldron's own behavior map
+	 */
+	public static Map<Item, CauldronBehavior> createLayeredBehaviorMap(Map<Item, CauldronBehavior> behaviorMap) {
+		return new LayeredCauldronBehaviorMap(behaviorMap, GLOBAL_BEHAVIOR_TABLE.getTable());
+	}
+
+	/**
+	 * Whether the given behavior map instance has been registered.
+	 *
+	 * @param behaviorMap the behavior map to check
+	 */
+	public static boolean isBehaviorMapRegistered(Map<Item, CauldronBehavior> behaviorMap) {
+		return CAULDRON_BEHAVIOR_MAPS.contains(behaviorMap);
 	}
 
 	/**
-	 * Gets all registered cauldron behavior maps.
+	 * Gets all registered cauldron behavior maps, in registration order.
+	 *
+	 * <p>The returned set is unmodifiable; use {@link #registerBehaviorMap(Map)} to register new maps.
+	 * It is not safe to read from other threads, use {@link #getSnapshot()} there instead.
 	 */
 	public static Set<Map<Item, CauldronBehavior>> getCauldronBehaviorMaps() {
-		return CAULDRON_BEHAVIOR_MAPS;
+		return CAULDRON_BEHAVIOR_MAPS.getBehaviorMaps();
 	}
 
 	/**
 	 * Gets all registered global cauldron behaviors.
+	 *
+	 * <p>The returned set is unmodifiable. It is not safe to read from other threads, use {@link #getSnapshot()} there instead.
 	 */
 	public static Set<CauldronBehaviorMapEntry> getGlobalBehaviors() {
-		return GLOBAL_BEHAVIORS;
+		return GLOBAL_BEHAVIORS_VIEW;
 	}
 
 	/**
@@ -69,16 +340,13 @@ public class CauldronLib {
 	 * @param behaviorMap the behavior map to add to
 	 */
 	private static void addGlobalBehaviors(Map<Item, CauldronBehavior> behaviorMap) {
-		CauldronBehavior.registerBucketBehavior(behaviorMap);
-		getGlobalBehaviors().forEach((behavior) -> {
-			behaviorMap.put(behavior.item(), behavior.behavior());
-		});
+		GLOBAL_BEHAVIOR_TABLE.copyInto(behaviorMap);
 	}
-
 	/**
 	 * Registers a new global cauldron behavior.
 	 *
-	 * <p>Global cauldron behaviors are added to every registered cauldron behavior map.
+	 * <p>Global cauldron behaviors apply to every registered cauldron behavior map.
+	 * Layered maps look them up from a shared table, other maps have them copied in.
 	 */
 	public static void registerGlobalBehavior(Item item, CauldronBehavior behavior) {
 		registerGlobalBehavior(new CauldronBehaviorMapEntry(item, behavior));
@@ -87,15 +355,79 @@ public class CauldronLib {
 	/**
 	 * Registers new global cauldron behaviors.
 	 *
-	 * <p>Global cauldron behaviors are added to every registered cauldron behavior map.
+	 * <p>Global cauldron behaviors apply to every registered cauldron behavior map.
+	 * Layered maps look them up from a shared table, other maps have them copied in.
 	 */
 	public static void registerGlobalBehavior(CauldronBehaviorMapEntry... behaviors) {
+		beginRegistration("global behaviors");
 		Arrays.stream(behaviors).forEach((behavior -> {
-			getCauldronBehaviorMaps().forEach((map) -> map.put(behavior.item(), behavior.behavior));
-			getGlobalBehaviors().add(behavior);
+			GLOBAL_BEHAVIOR_TABLE.put(behavior.item(), behavior.behavior());
+			GLOBAL_BEHAVIORS.add(behavior);
 		}));
 	}
 
+	/**
+	 * Registers a global cauldron behavior as a link in the chain of behaviors for an item.
+	 *
+	 * <p>Unlike {@link #registerGlobalBehavior(Item, CauldronBehavior)}, this doesn't replace behaviors registered by other mods.
+	 * Links are tried from highest to lowest priority, and in registration order for equal priorities, until one returns something
+	 * other than {@link ActionResult#PASS}. The behavior registered the usual way, if any, is tried last.
+	 *
+	 * <p>Chains are flattened into a single behavior per item when CauldronLib is {@linkplain #freeze() frozen}.
+	 *
+	 * @param item     the item
+	 * @param priority the priority, higher priorities are tried first
+	 * @param behavior the behavior
+	 */
+	public static void registerChainedBehavior(Item item, int priority, CauldronBehavior behavior) {
+		beginRegistration("chained behaviors");
+		BEHAVIOR_CHAINS.register(null, item, priority, behavior);
+	}
+
+	/**
+	 * Registers a cauldron behavior as a link in the chain of behaviors for an item in a single behavior map.
+	 *
+	 * <p>Works like {@link #registerChainedBehavior(Item, int, CauldronBehavior)}, except the behavior already in the map is tried last.
+	 * For layered maps with no behavior of their own for the item, the global behavior is tried last instead.
+	 *
+	 * @param behaviorMap the behavior map
+	 * @param item        the item
+	 * @param priority    the priority, higher priorities are tried first
+	 * @param behavior    the behavior
+	 */
+	public static void registerChainedBehavior(Map<Item, CauldronBehavior> behaviorMap, Item item, int priority, CauldronBehavior behavior) {
+		beginRegistration("chained behaviors");
+		BEHAVIOR_CHAINS.register(behaviorMap, item, priority, behavior);
+	}
+
+	/**
+	 * Registers a new global cauldron behavior for every item in a tag.
+	 *
+	 * <p>The tag is resolved whenever tags are loaded, and the behavior compiled into the shared table of global behaviors,
+	 * so no tag checks are done when a cauldron is used. Behaviors registered for single items take precedence.
+	 *
+	 * @param tag      the item tag
+	 * @param behavior the behavior
+	 */
+	public static void registerGlobalBehavior(Tag<Item> tag, CauldronBehavior behavior) {
+		beginRegistration("global behaviors");
+		GLOBAL_BEHAVIOR_RULES.register(tag, behavior);
+	}
+
+	/**
+	 * Registers a new global cauldron behavior for every item matching a predicate.
+	 *
+	 * <p>The predicate is tested against every item once, and the behavior compiled into the shared table of global behaviors,
+	 * so no predicate checks are done when a cauldron is used. Behaviors registered for single items or tags take precedence.
+	 *
+	 * @param predicate the item predicate
+	 * @param behavior  the behavior
+	 */
+	public static void registerGlobalBehavior(Predicate<Item> predicate, CauldronBehavior behavior) {
+		beginRegistration("global behaviors");
+		GLOBAL_BEHAVIOR_RULES.register(predicate, behavior);
+	}
+
 	/**
 	 * Creates a new cauldron behavior for filling a cauldron from a bucket.
 	 *
@@ -108,7 +440,19 @@ public class CauldronLib {
 	 * @param bucketEmptySound the sound event for emptying the bucket
 	 */
 	public static CauldronBehavior createFillFromBucketBehavior(Block cauldron, SoundEvent bucketEmptySound) {
-		return (state, world, pos, player, hand, stack) -> CauldronBehavior.fillCauldron(world, pos, player, hand, stack, cauldron.getDefaultState(), bucketEmptySound);
+		return CauldronMetrics.instrument("fill_from_bucket", (state, world, pos, player, hand, stack) -> {
+			if (!world.isClient) {
+				Item item = stack.getItem();
+				player.setStackInHand(hand, exchangeStack(stack, player, BUCKET_TEMPLATE));
+				player.incrementStat(Stats.FILL_CAULDRON);
+				player.incrementStat(Stats.USED.getOrCreateStat(item));
+				world.setBlockState(pos, cauldron.getDefaultState());
+				world.playSound(null, pos, bucketEmptySound, SoundCategory.BLOCKS, 1.0F, 1.0F);
+				world.emitGameEvent(null, GameEvent.FLUID_PLACE, pos);
+			}
+
+			return ActionResult.success(world.isClient);
+		});
 	}
 
 	/**
@@ -168,10 +512,10 @@ public class CauldronLib {
 	 * @param bottleEmptySound the sound event for emptying the bottle
 	 */
 	public static CauldronBehavior createFillFromBottleBehavior(Block cauldron, SoundEvent bottleEmptySound) {
-		return (state, world, pos, player, hand, stack) -> {
+		return CauldronMetrics.instrument("fill_from_bottle", (state, world, pos, player, hand, stack) -> {
 			if (!world.isClient) {
 				Item item = stack.getItem();
-				player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, new ItemStack(Items.GLASS_BOTTLE)));
+				player.setStackInHand(hand, exchangeStack(stack, player, GLASS_BOTTLE_TEMPLATE));
 				player.incrementStat(Stats.USE_CAULDRON);
 				player.incrementStat(Stats.USED.getOrCreateStat(item));
 				world.setBlockState(pos, cauldron.getDefaultState());
@@ -180,7 +524,7 @@ public class CauldronLib {
 			}
 
 			return ActionResult.success(world.isClient);
-		};
+		});
 	}
 
 	/**
@@ -203,7 +547,50 @@ public class CauldronLib {
 	 * @param item the item that results
 	 */
 	public static CauldronBehavior createEmptyBehavior(Item item, SoundEvent itemFillSound) {
-		return (state, world, pos, player, hand, stack) -> CauldronBehavior.emptyCauldron(state, world, pos, player, hand, stack, new ItemStack(item), state2 -> ((AbstractCauldronBlock) state2.getBlock()).isFull(state2), itemFillSound);
+		ItemStack template = new ItemStack(item);
+		return CauldronMetrics.instrument("empty", (state, world, pos, player, hand, stack) -> {
+			if (!((AbstractCauldronBlock) state.getBlock()).isFull(state)) return ActionResult.PASS;
+
+			if (!world.isClient) {
+				Item used = stack.getItem();
+				player.setStackInHand(hand, exchangeStack(stack, player, template));
+				player.incrementStat(Stats.USE_CAULDRON);
+				player.incrementStat(Stats.USED.getOrCreateStat(used));
+				world.setBlockState(pos, Blocks.CAULDRON.getDefaultState());
+				world.playSound(null, pos, itemFillSound, SoundCategory.BLOCKS, 1.0F, 1.0F);
+				world.emitGameEvent(null, GameEvent.FLUID_PICKUP, pos);
+			}
+
+			return ActionResult.success(world.isClient);
+		});
+	}
+
+	/**
+	 * Exchanges one of the held stack for a copy of a template, like {@link ItemUsage#exchangeStack(ItemStack, PlayerEntity, ItemStack)}.
+	 *
+	 * <p>When the result can be merged into a stack already in a survival player's inventory, that stack is grown instead of copying the template.
+	 * Otherwise the template is copied and exchanged by {@link ItemUsage#exchangeStack(ItemStack, PlayerEntity, ItemStack)}.
+	 *
+	 * @param stack    the held stack
+	 * @param player   the player holding the stack
+	 * @param template the stack to give, which must have a count of 1 and is never handed out itself
+	 * @return the stack to put back into the player's hand
+	 */
+	private static ItemStack exchangeStack(ItemStack stack, PlayerEntity player, ItemStack template) {
+		if (!player.getAbilities().creativeMode && stack.getCount() > 1) {
+			PlayerInventory inventory = player.getInventory();
+			int slot = inventory.getOccupiedSlotWithRoomForStack(template);
+
+			if (slot >= 0) {
+				ItemStack existing = inventory.getStack(slot);
+				stack.decrement(1);
+				existing.increment(1);
+				existing.setBobbingAnimationTime(5);
+				return stack;
+			}
+		}
+
+		return ItemUsage.exchangeStack(stack, player, template.copy());
 	}
 
 	/**
@@ -226,20 +613,142 @@ public class CauldronLib {
 	 * @return whether any change was made
 	 */
 	public static boolean setFluidLevel(BlockState state, World world, BlockPos pos, boolean required, int level) {
-		int maxLevel = getMaxFluidLevel(state);
-		int actualLevel = Math.max(0, Math.min(level, maxLevel));
+		return planSetFluidLevel(state, required, level).apply(world, pos);
+	}
 
-		if (maxLevel == -1 || (level != actualLevel && required) || getFluidLevel(state) == actualLevel) return false;
+	/**
+	 * Plans setting the fluid level of a cauldron, without changing anything yet.
+	 *
+	 * <p>The returned plan can be checked and then applied without repeating any lookups.
+	 *
+	 * @param state    the block state of the cauldron
+	 * @param required whether the cauldron is required to be able to hold the exact amount given
+	 * @param level    the amount to set the fluid level to
+	 */
+	public static FluidLevelChange planSetFluidLevel(BlockState state, boolean required, int level) {
+		return FluidLevelChange.plan(state, required, level);
+	}
 
-		if (state.getBlock() instanceof AbstractLeveledCauldronBlock block) {
-			return block.setFluidLevel(state, world, pos, required, actualLevel);
-		} else if ((state.getBlock() instanceof FullCauldronBlock || state.isOf(Blocks.LAVA_CAULDRON)) && actualLevel == 0) {
-			return world.setBlockState(pos, Blocks.CAULDRON.getDefaultState());
-		} else if (state.getBlock() instanceof LeveledCauldronBlock) {
-			return world.setBlockState(pos, actualLevel == 0 ? Blocks.CAULDRON.getDefaultState() : state.with(LeveledCauldronBlock.LEVEL, actualLevel));
-		}
+	/**
+	 * Plans incrementing the fluid level of a cauldron, without changing anything yet.
+	 *
+	 * @param state    the block state of the cauldron
+	 * @param required whether the cauldron is required to have the space for fluid to increment in the first place
+	 * @param amount   the amount to increment the fluid level by
+	 * @see #planSetFluidLevel(BlockState, boolean, int)
+	 */
+	public static FluidLevelChange planIncrementFluidLevel(BlockState state, boolean required, int amount) {
+		return FluidLevelChange.plan(state, required, getFluidLevel(state) + amount);
+	}
+
+	/**
+	 * Plans decrementing the fluid level of a cauldron, without changing anything yet.
+	 *
+	 * @param state    the block state of the cauldron
+	 * @param required whether the cauldron is required to have the amount of fluid to decrement in the first place
+	 * @param amount   the amount to decrement the fluid level by
+	 * @see #planSetFluidLevel(BlockState, boolean, int)
+	 */
+	public static FluidLevelChange planDecrementFluidLevel(BlockState state, boolean required, int amount) {
+		return FluidLevelChange.plan(state, required, getFluidLevel(state) - amount);
+	}
+
+	/**
+	 * Gets the block state a cauldron would become if its fluid level was set,
+	 * or {@code null} if not a known cauldron or it can't hold the given fluid level.
+	 *
+	 * <p>Setting the fluid level to 0 results in an empty cauldron.
+	 *
+	 * @param state the block state of the cauldron
+	 * @param level the fluid level
+	 */
+	@Nullable
+	public static BlockState getStateForLevel(BlockState state, int level) {
+		return CauldronStateTable.getStateForLevel(state, level);
+	}
 
-		return false;
+	/**
+	 * Opens a scope in which cauldron fluid level changes in the given world don't immediately update neighbors and comparators.
+	 *
+	 * <p>Each changed position instead gets a single neighbor and comparator update at the end of the server tick.
+	 * Should be used with try-with-resources.
+	 *
+	 * @param world the world to defer updates in
+	 * @see CauldronUpdateBatch
+	 */
+	public static CauldronUpdateBatch deferUpdates(World world) {
+		return CauldronUpdateBatch.open(world);
+	}
+
+	/**
+	 * Sets the fluid level of many cauldrons at once.
+	 *
+	 * <p>Positions are processed grouped by chunk section. Neighbor and comparator updates are sent once per chunk section,
+	 * after all of its cauldrons have changed, rather than once per cauldron.
+	 *
+	 * @param world     the world the cauldrons are in
+	 * @param positions the positions of the cauldrons
+	 * @param required  whether each cauldron is required to be able to hold the exact amount given
+	 * @param level     the amount to set the fluid levels to
+	 * @return a bit set with a bit set for every position, in iteration order, where a change was made
+	 */
+	public static BitSet setFluidLevels(World world, Collection<BlockPos> positions, boolean required, int level) {
+		return CauldronBulkUpdater.apply(world, positions, required, (currentLevel) -> level);
+	}
+
+	/**
+	 * Decrements the fluid level of many cauldrons at once.
+	 *
+	 * @param world     the world the cauldrons are in
+	 * @param positions the positions of the cauldrons
+	 * @param required  whether each cauldron is required to have the amount of fluid to decrement in the first place
+	 * @param amount    the amount to decrement the fluid levels by
+	 * @return a bit set with a bit set for every position, in iteration order, where a change was made
+	 * @see #setFluidLevels(World, Collection, boolean, int)
+	 */
+	public static BitSet decrementFluidLevels(World world, Collection<BlockPos> positions, boolean required, int amount) {
+		return CauldronBulkUpdater.apply(world, positions, required, (currentLevel) -> currentLevel - amount);
+	}
+
+	/**
+	 * Increments the fluid level of many cauldrons at once.
+	 *
+	 * @param world     the world the cauldrons are in
+	 * @param positions the positions of the cauldrons
+	 * @param required  whether each cauldron is required to have the space for fluid to increment in the first place
+	 * @param amount    the amount to increment the fluid levels by
+	 * @return a bit set with a bit set for every position, in iteration order, where a change was made
+	 * @see #setFluidLevels(World, Collection, boolean, int)
+	 */
+	public static BitSet incrementFluidLevels(World world, Collection<BlockPos> positions, boolean required, int amount) {
+		return CauldronBulkUpdater.apply(world, positions, required, (currentLevel) -> currentLevel + amount);
+	}
+
+	/**
+	 * Finds the positions of every cauldron within a box.
+	 *
+	 * <p>Uses a per-chunk index of cauldron positions, so only the loaded chunks the box overlaps are looked at.
+	 * Unloaded chunks are skipped. Should only be called from the thread that owns the world.
+	 *
+	 * @param world the world to look in
+	 * @param box   the box to look in
+	 * @see CauldronChunkIndex
+	 */
+	public static List<BlockPos> getCauldrons(World world, Box box) {
+		return CauldronChunkIndex.find(world, new BlockBox(MathHelper.floor(box.minX), MathHelper.floor(box.minY), MathHelper.floor(box.minZ),
+				MathHelper.ceil(box.maxX) - 1, MathHelper.ceil(box.maxY) - 1, MathHelper.ceil(box.maxZ) - 1));
+	}
+
+	/**
+	 * Finds the positions of every cauldron within a given number of blocks of a position along each axis.
+	 *
+	 * @param world  the world to look in
+	 * @param center the position to look around
+	 * @param range  the maximum distance along each axis
+	 * @see #getCauldrons(World, Box)
+	 */
+	public static List<BlockPos> getCauldronsInRange(World world, BlockPos center, int range) {
+		return CauldronChunkIndex.find(world, new BlockBox(center).expand(range));
 	}
 
 	/**
@@ -359,22 +868,143 @@ public class CauldronLib {
 		return incrementFluidLevel(state, world, pos, true, 1);
 	}
 
+	/**
+	 * Registers a descriptor for a cauldron block, so that it is recognised by the methods in this class.
+	 *
+	 * <p>Unnecessary for blocks extending {@link AbstractLeveledCauldronBlock} or {@link FullCauldronBlock}.
+	 *
+	 * @param block      the cauldron block
+	 * @param descriptor how the block stores its fluid level
+	 * @throws IllegalArgumentException if the block doesn't have the descriptor's level property
+	 */
+	public static void registerCauldronDescriptor(Block block, CauldronDescriptor descriptor) {
+		beginRegistration("cauldron descriptors");
+		CauldronStateTable.register(block, descriptor);
+	}
+
+	/**
+	 * Registers a rule for filling cauldrons left out in a kind of precipitation.
+	 *
+	 * <p>Applies to empty cauldrons and to cauldrons of the given block. Cauldrons exposed to the sky are checked in batches
+	 * at the end of each world tick, rather than each getting their own random tick.
+	 *
+	 * @param precipitation the kind of precipitation
+	 * @param cauldron      the cauldron block that results
+	 * @param increment     the number of fluid levels added each time the cauldron fills
+	 * @param chance        the chance per tick of the cauldron filling, while exposed to precipitation
+	 * @see CauldronPrecipitationScheduler
+	 */
+	public static void registerPrecipitationFill(Biome.Precipitation precipitation, Block cauldron, int increment, float chance) {
+		beginRegistration("precipitation fill rules");
+		CauldronPrecipitationScheduler.register(precipitation, new CauldronPrecipitationScheduler.PrecipitationFillRule(cauldron, increment, chance));
+	}
+
+	/**
+	 * Registers the rule for filling cauldrons from a fluid dripping off pointed dripstone, replacing any previous rule for the fluid.
+	 *
+	 * <p>Applies to empty cauldrons and to cauldrons of the given block. Fluids other than water and lava drip with the given chance;
+	 * water and lava keep vanilla's chances.
+	 *
+	 * @param fluid     the fluid dripping off the dripstone, taken from the block above it
+	 * @param cauldron  the cauldron block that results
+	 * @param increment the number of fluid levels added per drip
+	 * @param chance    the chance of a drip on each of the dripstone's drip checks, vanilla water being {@code 0.17578125}
+	 * @see CauldronDripstoneFill
+	 */
+	public static void registerDripstoneFill(Fluid fluid, Block cauldron, int increment, float chance) {
+		beginRegistration("dripstone fill rules");
+		CauldronDripstoneFill.register(fluid, new CauldronDripstoneFill.DripstoneFillRule(cauldron, increment, chance));
+	}
+
+	/**
+	 * Sets how many chunks plus cauldrons are checked for precipitation filling per world tick.
+	 *
+	 * <p>Defaults to {@value CauldronPrecipitationScheduler#DEFAULT_BUDGET}.
+	 *
+	 * @param budget the new budget, at least 1
+	 */
+	public static void setPrecipitationFillBudget(int budget) {
+		CauldronPrecipitationScheduler.setBudget(budget);
+	}
+
+	/**
+	 * Registers what a cauldron block holds and the items it can be carried in.
+	 *
+	 * <p>Also registers the behaviors to go with it: filling the cauldron from its bucket or bottle as global behaviors,
+	 * and emptying the cauldron into an empty bucket in the cauldron's own behavior map, unless it already has one.
+	 * Registered fluids can be moved in and out of the cauldron through the Fabric Transfer API.
+	 *
+	 * <p>Vanilla water, lava and powder snow are already registered.
+	 *
+	 * @param cauldronFluid the cauldron fluid to register
+	 * @throws IllegalArgumentException if its cauldron, fluid, bucket or bottle is already used by another cauldron fluid
+	 * @see CauldronFluidRegistry
+	 */
+	public static void registerCauldronFluid(CauldronFluid cauldronFluid) {
+		beginRegistration("cauldron fluids");
+		CauldronFluidRegistry.register(cauldronFluid);
+
+		if (cauldronFluid.bucket() != null) {
+			registerGlobalBehavior(cauldronFluid.bucket(), createFillFromBucketBehavior(cauldronFluid.cauldron(), cauldronFluid.bucketEmptySound()));
+
+			if (cauldronFluid.cauldron() instanceof AbstractCauldronBlock) {
+				Map<Item, CauldronBehavior> behaviorMap = ((AbstractCauldronBlockAccessor) cauldronFluid.cauldron()).cauldronlib$getBehaviorMap();
+				behaviorMap.putIfAbsent(Items.BUCKET, createEmptyBehavior(cauldronFluid.bucket(), cauldronFluid.bucketFillSound()));
+			}
+		}
+
+		if (cauldronFluid.bottle() != null) {
+			registerGlobalBehavior(cauldronFluid.bottle(), createFillFromBottleBehavior(cauldronFluid.cauldron(), cauldronFluid.bottleEmptySound()));
+		}
+	}
+
+	/**
+	 * Gets the cauldron fluid for a fluid, or {@code null} if there is none.
+	 *
+	 * @param fluid the fluid
+	 */
+	@Nullable
+	public static CauldronFluid getCauldronFluid(Fluid fluid) {
+		return CauldronFluidRegistry.getByFluid(fluid);
+	}
+
+	/**
+	 * Gets the cauldron fluid held by a cauldron block, or {@code null} if there is none.
+	 *
+	 * @param cauldron the cauldron block
+	 */
+	@Nullable
+	public static CauldronFluid getCauldronFluid(Block cauldron) {
+		return CauldronFluidRegistry.getByCauldron(cauldron);
+	}
+
+	/**
+	 * Gets the cauldron fluid carried in a bucket, or {@code null} if there is none.
+	 *
+	 * @param bucket the bucket
+	 */
+	@Nullable
+	public static CauldronFluid getCauldronFluidByBucket(Item bucket) {
+		return CauldronFluidRegistry.getByBucket(bucket);
+	}
+
+	/**
+	 * Gets the cauldron fluid carried in a bottle, or {@code null} if there is none.
+	 *
+	 * @param bottle the bottle
+	 */
+	@Nullable
+	public static CauldronFluid getCauldronFluidByBottle(Item bottle) {
+		return CauldronFluidRegistry.getByBottle(bottle);
+	}
+
 	/**
 	 * Gets the fluid level of a cauldron, or {@code -1} if not a known cauldron.
 	 *
 	 * @param state the block state of the cauldron
 	 */
 	public static int getFluidLevel(BlockState state) {
-		if (state.getBlock() instanceof AbstractLeveledCauldronBlock block) {
-			return block.getFluidLevel(state);
-		} else if (state.getBlock() instanceof FullCauldronBlock || state.isOf(Blocks.LAVA_CAULDRON)) {
-			return 1;
-		} else if (state.getBlock() instanceof LeveledCauldronBlock) {
-			return state.get(LeveledCauldronBlock.LEVEL);
-		} else if (state.isOf(Blocks.CAULDRON)) {
-			return 0;
-		}
-		return -1;
+		return CauldronStateTable.getFluidLevel(CauldronStateTable.get(state));
 	}
 
 	/**
@@ -383,16 +1013,7 @@ public class CauldronLib {
 	 * @param state the block state of the cauldron
 	 */
 	public static int getMaxFluidLevel(BlockState state) {
-		if (state.getBlock() instanceof AbstractLeveledCauldronBlock block) {
-			return block.getMaxLevel();
-		} else if (state.getBlock() instanceof FullCauldronBlock || state.isOf(Blocks.LAVA_CAULDRON)) {
-			return 1;
-		} else if (state.getBlock() instanceof LeveledCauldronBlock) {
-			return 3;
-		} else if (state.isOf(Blocks.CAULDRON)) {
-			return 0;
-		}
-		return -1;
+		return CauldronStateTable.getMaxFluidLevel(CauldronStateTable.get(state));
 	}
 
 	/**
@@ -401,7 +1022,8 @@ public class CauldronLib {
 	 * @param state the block state of the cauldron
 	 */
 	public static boolean isFull(BlockState state) {
-		return getFluidLevel(state) >= getMaxFluidLevel(state);
+		int packed = CauldronStateTable.get(state);
+		return CauldronStateTable.getFluidLevel(packed) >= CauldronStateTable.getMaxFluidLevel(packed);
 	}
 
 	/**
@@ -411,10 +1033,8 @@ public class CauldronLib {
 	 * @param level the amount to set the fluid level to
 	 */
 	public static boolean canSetFluidLevel(BlockState state, int level) {
-		int maxLevel = getMaxFluidLevel(state);
-		int actualLevel = Math.max(0, Math.min(level, maxLevel));
-
-		return maxLevel != -1 && level == actualLevel && getFluidLevel(state) != actualLevel;
+		int packed = CauldronStateTable.get(state);
+		return CauldronStateTable.isCauldron(packed) && level >= 0 && level <= CauldronStateTable.getMaxFluidLevel(packed) && CauldronStateTable.getFluidLevel(packed) != level;
 	}
 
 	/**
@@ -457,6 +1077,64 @@ public class CauldronLib {
 		return canDecrementFluidLevel(state, 1);
 	}
 
+	/**
+	 * Creates a fluid box, relative to a cauldron's position, for the given fluid height.
+	 *
+	 * <p>Like vanilla cauldrons, the fluid is considered to start a quarter of a block up from the bottom of the cauldron.
+	 *
+	 * @param fluidHeight the height of the fluid's surface, in blocks
+	 */
+	public static Box createFluidBox(double fluidHeight) {
+		return new Box(0.0D, 0.25D, 0.0D, 1.0D, fluidHeight, 1.0D);
+	}
+
+	/**
+	 * Gets the box, relative to a cauldron's position, that entities must intersect to be touching its fluid,
+	 * or {@code null} if it has no fluid or is not a known cauldron.
+	 *
+	 * @param state the block state of the cauldron
+	 */
+	@Nullable
+	public static Box getFluidBox(BlockState state) {
+		if (state.getBlock() instanceof AbstractLeveledCauldronBlock block) {
+			return block.getFluidBox(state);
+		} else if (state.getBlock() instanceof FullCauldronBlock block) {
+			return block.getFluidBox(state);
+		} else if (state.isOf(Blocks.LAVA_CAULDRON)) {
+			return FullCauldronBlock.FLUID_BOX;
+		} else if (state.getBlock() instanceof LeveledCauldronBlock) {
+			return VANILLA_LEVELED_FLUID_BOXES[state.get(LeveledCauldronBlock.LEVEL)];
+		}
+
+		return null;
+	}
+
+	/**
+	 * Whether an entity is touching the fluid in a cauldron.
+	 *
+	 * <p>Cheaper than the checks vanilla cauldrons do, so can be used to skip extinguishing or damaging entities early.
+	 *
+	 * @param state  the block state of the cauldron
+	 * @param pos    the position of the cauldron
+	 * @param entity the entity to check
+	 */
+	public static boolean isEntityTouchingFluid(BlockState state, BlockPos pos, Entity entity) {
+		Box fluidBox = getFluidBox(state);
+		return fluidBox != null && isEntityTouchingFluid(fluidBox, pos, entity);
+	}
+
+	/**
+	 * Whether an entity is touching the fluid in a cauldron.
+	 *
+	 * @param fluidBox the fluid box of the cauldron, relative to its position
+	 * @param pos      the position of the cauldron
+	 * @param entity   the entity to check
+	 */
+	public static boolean isEntityTouchingFluid(Box fluidBox, BlockPos pos, Entity entity) {
+		int y = pos.getY();
+		return entity.getY() < y + fluidBox.maxY && entity.getBoundingBox().maxY > y + fluidBox.minY;
+	}
+
 	/**
 	 * A pair of an item and a cauldron behavior.
 	 */
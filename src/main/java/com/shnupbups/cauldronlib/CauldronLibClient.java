@@ -0,0 +1,35 @@
+package com.shnupbups.cauldronlib;
+
+import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.client.model.ModelLoadingRegistry;
+
+import net.minecraft.block.Block;
+import net.minecraft.util.Identifier;
+
+import com.shnupbups.cauldronlib.client.CauldronModelGenerator;
+
+public class CauldronLibClient implements ClientModInitializer {
+	@Override
+	public void onInitializeClient() {
+		ClientLifecycleEvents.CLIENT_STARTED.register((client) -> {
+			CauldronLib.compactBehaviorMaps();
+			CauldronLib.freeze();
+		});
+		ModelLoadingRegistry.INSTANCE.registerResourceProvider(CauldronModelGenerator::new);
+		ModelLoadingRegistry.INSTANCE.registerVariantProvider(CauldronModelGenerator::new);
+	}
+
+	/**
+	 * Registers a cauldron block to have its block models generated from its fluid levels, so it needs no blockstate or model files.
+	 *
+	 * <p>Blocks showing the same fraction of a full cauldron with the same content texture share one baked model.
+	 *
+	 * @param block          the cauldron block
+	 * @param contentTexture the texture of the cauldron's contents, for example {@code minecraft:block/water_still}
+	 * @see CauldronModelGenerator
+	 */
+	public static void registerGeneratedModels(Block block, Identifier contentTexture) {
+		CauldronModelGenerator.register(block, contentTexture);
+	}
+}
@@ -0,0 +1,220 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import it.unimi.dsi.fastutil.objects.AbstractObject2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArraySet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+/**
+ * A cauldron behavior map backed by an array indexed by item raw id.
+ *
+ * <p>Can be used anywhere a map from {@link CauldronBehavior#createMap()} would be. Like those maps, it returns
+ * {@link CauldronLib#PASS_BEHAVIOR} for items with no behavior rather than {@code null}.
+ *
+ * <p>Items that don't have a raw id yet when put into the map are kept aside until {@link #compact()} is called.
+ * Maps are rebuilt automatically when item raw ids are remapped.
+ */
+public class ArrayCauldronBehaviorMap extends AbstractObject2ObjectMap<Item, CauldronBehavior> {
+	private static final List<WeakReference<ArrayCauldronBehaviorMap>> INSTANCES = new ArrayList<>();
+
+	private final Reference2ObjectOpenHashMap<Item, CauldronBehavior> unindexed = new Reference2ObjectOpenHashMap<>();
+	private Item[] items;
+	private CauldronBehavior[] behaviors;
+	private int indexedSize;
+
+	public ArrayCauldronBehaviorMap() {
+		this(Registry.ITEM.size());
+	}
+
+	public ArrayCauldronBehaviorMap(int expectedRawIds) {
+		this.items = new Item[expectedRawIds];
+		this.behaviors = new CauldronBehavior[expectedRawIds];
+		this.defaultReturnValue(CauldronLib.PASS_BEHAVIOR);
+
+		synchronized (INSTANCES) {
+			INSTANCES.add(new WeakReference<>(this));
+		}
+	}
+
+	public ArrayCauldronBehaviorMap(Map<Item, CauldronBehavior> behaviorMap) {
+		this();
+		this.putAll(behaviorMap);
+	}
+
+	@Override
+	public CauldronBehavior get(Object key) {
+		if (!(key instanceof Item item)) return defaultReturnValue();
+
+		int id = Registry.ITEM.getRawId(item);
+		CauldronBehavior behavior = id >= 0 && id < behaviors.length ? behaviors[id] : null;
+
+		if (behavior == null && !unindexed.isEmpty()) behavior = unindexed.get(item);
+		return behavior == null ? defaultReturnValue() : behavior;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != defaultReturnValue();
+	}
+
+	@Override
+	public CauldronBehavior put(Item item, CauldronBehavior behavior) {
+		int id = Registry.ITEM.getRawId(item);
+		CauldronBehavior previous;
+
+		if (id < 0) {
+			previous = unindexed.put(item, behavior);
+		} else {
+			if (id >= behaviors.length) {
+				int length = Math.max(id + 1, behaviors.length * 2);
+				items = Arrays.copyOf(items, length);
+				behaviors = Arrays.copyOf(behaviors, length);
+			}
+
+			previous = behaviors[id];
+			if (previous == null) {
+				indexedSize++;
+				if (!unindexed.isEmpty()) previous = unindexed.remove(item);
+			}
+
+			items[id] = item;
+			behaviors[id] = behavior;
+		}
+
+		return previous == null ? defaultReturnValue() : previous;
+	}
+
+	@Override
+	public CauldronBehavior remove(Object key) {
+		if (!(key instanceof Item item)) return defaultReturnValue();
+
+		int id = Registry.ITEM.getRawId(item);
+		CauldronBehavior previous = id >= 0 && id < behaviors.length ? behaviors[id] : null;
+
+		if (previous != null) {
+			items[id] = null;
+			behaviors[id] = null;
+			indexedSize--;
+		} else if (!unindexed.isEmpty()) {
+			previous = unindexed.remove(item);
+		}
+
+		return previous == null ? defaultReturnValue() : previous;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(items, null);
+		Arrays.fill(behaviors, null);
+		unindexed.clear();
+		indexedSize = 0;
+	}
+
+	@Override
+	public int size() {
+		return indexedSize + unindexed.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The returned set is a snapshot and does not write through to this map.
+	 */
+	@Override
+	public ObjectSet<Object2ObjectMap.Entry<Item, CauldronBehavior>> object2ObjectEntrySet() {
+		ObjectArrayList<Object2ObjectMap.Entry<Item, CauldronBehavior>> entries = new ObjectArrayList<>(size());
+
+		for (int id = 0; id < behaviors.length; id++) {
+			if (behaviors[id] != null) entries.add(new BasicEntry<>(items[id], behaviors[id]));
+		}
+
+		unindexed.forEach((item, behavior) -> entries.add(new BasicEntry<>(item, behavior)));
+		return new ObjectArraySet<>(entries.elements(), entries.size());
+	}
+
+	/**
+	 * Moves items that have been given a raw id since being put into this map into the array,
+	 * and trims the array to the highest raw id in use.
+	 *
+	 * <p>Should be called once the item registry is frozen.
+	 */
+	public void compact() {
+		if (!unindexed.isEmpty()) {
+			List<Map.Entry<Item, CauldronBehavior>> registered = new ArrayList<>();
+			unindexed.forEach((item, behavior) -> {
+				if (Registry.ITEM.getRawId(item) >= 0) registered.add(Map.entry(item, behavior));
+			});
+			registered.forEach((entry) -> put(entry.getKey(), entry.getValue()));
+		}
+
+		int length = behaviors.length;
+		while (length > 0 && behaviors[length - 1] == null) length--;
+
+		if (length < behaviors.length) {
+			items = Arrays.copyOf(items, length);
+			behaviors = Arrays.copyOf(behaviors, length);
+		}
+	}
+
+	/**
+	 * Re-indexes this map after item raw ids have changed.
+	 */
+	public void rebuild() {
+		Item[] oldItems = items;
+		CauldronBehavior[] oldBehaviors = behaviors;
+
+		items = new Item[oldItems.length];
+		behaviors = new CauldronBehavior[oldBehaviors.length];
+		indexedSize = 0;
+
+		for (int id = 0; id < oldBehaviors.length; id++) {
+			if (oldBehaviors[id] != null) put(oldItems[id], oldBehaviors[id]);
+		}
+
+		compact();
+	}
+
+	/**
+	 * Compacts every array cauldron behavior map.
+	 *
+	 * @see #compact()
+	 */
+	public static void compactAll() {
+		forEachInstance(ArrayCauldronBehaviorMap::compact);
+	}
+
+	/**
+	 * Re-indexes every array cauldron behavior map after item raw ids have changed.
+	 *
+	 * @see #rebuild()
+	 */
+	public static void rebuildAll() {
+		forEachInstance(ArrayCauldronBehaviorMap::rebuild);
+	}
+
+	private static void forEachInstance(Consumer<ArrayCauldronBehaviorMap> action) {
+		synchronized (INSTANCES) {
+			INSTANCES.removeIf((reference) -> {
+				ArrayCauldronBehaviorMap map = reference.get();
+				if (map == null) return true;
+				action.accept(map);
+				return false;
+			});
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.util.ActionResult;
+
+/**
+ * Cauldron behaviors registered as links in a chain, so several mods can handle the same item without overwriting each other.
+ *
+ * <p>Chains are kept per item, either globally or for a single behavior map. When compiled, each chain becomes one
+ * {@link ChainedCauldronBehavior} put in place of the behavior already there. Links with a higher priority are tried first,
+ * links with the same priority in registration order, and the behavior that was already there is tried last.
+ * Global chains end with whatever behavior is registered behind them when used, so behaviors compiled from rules or data
+ * after the chain still apply. Chains in layered maps without a behavior of their own end with whatever global behavior
+ * the item has when used.
+ */
+public class CauldronBehaviorChains {
+	private static final Comparator<Link> ORDER = Comparator.comparingInt(Link::priority).reversed().thenComparingInt(Link::order);
+
+	private final GlobalCauldronBehaviorTable globals;
+	private final CauldronBehaviorMapRegistry registry;
+	private final Reference2ObjectLinkedOpenHashMap<Item, List<Link>> globalChains = new Reference2ObjectLinkedOpenHashMap<>();
+	private final Reference2ObjectLinkedOpenHashMap<Map<Item, CauldronBehavior>, Reference2ObjectLinkedOpenHashMap<Item, List<Link>>> mapChains = new Reference2ObjectLinkedOpenHashMap<>();
+	private int order;
+	private boolean compiled;
+
+	public CauldronBehaviorChains(GlobalCauldronBehaviorTable globals, CauldronBehaviorMapRegistry registry) {
+		this.globals = globals;
+		this.registry = registry;
+	}
+
+	/**
+	 * Registers a link in the chain for an item.
+	 *
+	 * @param behaviorMap the behavior map the chain is for, or {@code null} for the global chain
+	 * @param item        the item
+	 * @param priority    the priority, higher priorities are tried first
+	 * @param behavior    the behavior, which should return {@link net.minecraft.util.ActionResult#PASS} to let the next link handle the interaction
+	 */
+	public synchronized void register(@Nullable Map<Item, CauldronBehavior> behaviorMap, Item item, int priority, CauldronBehavior behavior) {
+		if (compiled) throw new IllegalStateException("Cauldron behavior chains have already been compiled");
+
+		Map<Item, List<Link>> chains = behaviorMap == null ? globalChains : mapChains.computeIfAbsent(behaviorMap, (map) -> new Reference2ObjectLinkedOpenHashMap<>());
+		chains.computeIfAbsent(item, (key) -> new ArrayList<>()).add(new Link(priority, order++, behavior));
+	}
+
+	/**
+	 * Compiles every chain into its behavior map. Global chains are compiled first, so chains for layered maps fall back to them.
+	 *
+	 * <p>Called automatically when CauldronLib is frozen. Compiling more than once has no effect.
+	 */
+	public synchronized void compile() {
+		if (compiled) return;
+		compiled = true;
+
+		globalChains.forEach((item, links) -> globals.putChain(item, flatten(links, createChainFallback(item))));
+
+		mapChains.forEach((behaviorMap, chains) -> {
+			boolean layered = behaviorMap instanceof LayeredCauldronBehaviorMap || registry.isLayered(behaviorMap);
+			Map<Item, CauldronBehavior> target = behaviorMap instanceof LayeredCauldronBehaviorMap layeredMap ? layeredMap.getLocal() : behaviorMap;
+
+			chains.forEach((item, links) -> {
+				CauldronBehavior existing = LayeredCauldronBehaviorMap.getOrNull(target, item);
+				if (existing == null && layered) existing = createGlobalFallback(item);
+
+				target.put(item, flatten(links, existing));
+			});
+		});
+
+		globalChains.clear();
+		mapChains.clear();
+	}
+
+	/**
+	 * Creates the last link of a global chain, which uses the behavior behind the chain, looked up each time it's reached.
+	 */
+	private CauldronBehavior createChainFallback(Item item) {
+		return (state, world, pos, player, hand, stack) -> {
+			CauldronBehavior fallback = globals.get(item);
+			return fallback != null ? fallback.interact(state, world, pos, player, hand, stack) : ActionResult.PASS;
+		};
+	}
+
+	/**
+	 * Creates a link that uses the global behavior for an item, looked up each time it's reached so later global changes still apply.
+	 */
+	private CauldronBehavior createGlobalFallback(Item item) {
+		return (state, world, pos, player, hand, stack) -> {
+			CauldronBehavior global = LayeredCauldronBehaviorMap.getOrNull(globals.getTable(), item);
+			return global != null ? global.interact(state, world, pos, player, hand, stack) : ActionResult.PASS;
+		};
+	}
+
+	private static CauldronBehavior flatten(List<Link> links, @Nullable CauldronBehavior existing) {
+		List<CauldronBehavior> behaviors = new ArrayList<>(links.size() + 1);
+		links.stream().sorted(ORDER).forEach((link) -> behaviors.add(link.behavior()));
+		if (existing != null) behaviors.add(existing);
+
+		if (behaviors.size() == 1) return behaviors.get(0);
+		return new ChainedCauldronBehavior(behaviors);
+	}
+
+	private record Link(int priority, int order, CauldronBehavior behavior) {
+	}
+}
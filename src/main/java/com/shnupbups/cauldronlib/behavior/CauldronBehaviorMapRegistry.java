@@ -0,0 +1,77 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+
+/**
+ * Keeps track of registered cauldron behavior maps.
+ *
+ * <p>Behavior maps are compared by identity rather than by contents, as their contents (and so their hash codes)
+ * change whenever a behavior is added to them. Maps are iterated in the order they were registered.
+ */
+public class CauldronBehaviorMapRegistry {
+	private final ReferenceLinkedOpenHashSet<Map<Item, CauldronBehavior>> behaviorMaps = new ReferenceLinkedOpenHashSet<>();
+	private final ReferenceLinkedOpenHashSet<Map<Item, CauldronBehavior>> flatBehaviorMaps = new ReferenceLinkedOpenHashSet<>();
+	private final Set<Map<Item, CauldronBehavior>> view = Collections.unmodifiableSet(behaviorMaps);
+	private final Set<Map<Item, CauldronBehavior>> flatView = Collections.unmodifiableSet(flatBehaviorMaps);
+
+	/**
+	 * Registers a cauldron behavior map.
+	 *
+	 * @param behaviorMap the behavior map to register
+	 * @param layered     whether the map is only ever used through a {@link LayeredCauldronBehaviorMap},
+	 *                    meaning global behaviors don't need to be copied into it
+	 * @return {@code true} if the behavior map was not already registered
+	 */
+	public boolean register(Map<Item, CauldronBehavior> behaviorMap, boolean layered) {
+		if (!behaviorMaps.add(behaviorMap)) return false;
+		if (!layered) flatBehaviorMaps.add(behaviorMap);
+		return true;
+	}
+
+	/**
+	 * Whether the given behavior map instance has been registered.
+	 *
+	 * @param behaviorMap the behavior map to check
+	 */
+	public boolean contains(Map<Item, CauldronBehavior> behaviorMap) {
+		return behaviorMaps.contains(behaviorMap);
+	}
+
+	/**
+	 * Whether the given behavior map instance was registered as only being used through a {@link LayeredCauldronBehaviorMap}.
+	 *
+	 * @param behaviorMap the behavior map to check
+	 */
+	public boolean isLayered(Map<Item, CauldronBehavior> behaviorMap) {
+		return behaviorMaps.contains(behaviorMap) && !flatBehaviorMaps.contains(behaviorMap);
+	}
+
+	/**
+	 * Gets the number of registered behavior maps.
+	 */
+	public int size() {
+		return behaviorMaps.size();
+	}
+
+	/**
+	 * Gets an unmodifiable view of all registered behavior maps, in registration order.
+	 */
+	public Set<Map<Item, CauldronBehavior>> getBehaviorMaps() {
+		return view;
+	}
+
+	/**
+	 * Gets an unmodifiable view of the registered behavior maps that global behaviors must be copied into,
+	 * in registration order.
+	 */
+	public Set<Map<Item, CauldronBehavior>> getFlatBehaviorMaps() {
+		return flatView;
+	}
+}
@@ -0,0 +1,108 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.tag.Tag;
+import net.minecraft.util.registry.Registry;
+
+/**
+ * Global cauldron behaviors registered for item tags or item predicates rather than single items.
+ *
+ * <p>Rules are compiled into the {@link GlobalCauldronBehaviorTable} whenever tags are loaded, so using a cauldron never
+ * needs to check a tag or predicate. Each compile only touches the items whose behavior actually changed.
+ *
+ * <p>Behaviors registered for single items take precedence over rules. Tag rules take precedence over predicate rules,
+ * and later rules take precedence over earlier rules of the same type.
+ */
+public class CauldronBehaviorRules {
+	private final GlobalCauldronBehaviorTable globals;
+	private final List<TagRule> tagRules = new ArrayList<>();
+	private final List<PredicateRule> predicateRules = new ArrayList<>();
+
+	private Reference2ObjectOpenHashMap<Item, CauldronBehavior> compiledPredicates = new Reference2ObjectOpenHashMap<>();
+	private Reference2ObjectOpenHashMap<Item, CauldronBehavior> compiled = new Reference2ObjectOpenHashMap<>();
+	private boolean predicatesDirty;
+	private boolean tagsLoaded;
+
+	public CauldronBehaviorRules(GlobalCauldronBehaviorTable globals) {
+		this.globals = globals;
+	}
+
+	/**
+	 * Registers a behavior for every item in a tag.
+	 *
+	 * @param tag      the item tag
+	 * @param behavior the behavior
+	 */
+	public synchronized void register(Tag<Item> tag, CauldronBehavior behavior) {
+		tagRules.add(new TagRule(tag, behavior));
+		if (tagsLoaded) compile();
+	}
+
+	/**
+	 * Registers a behavior for every item matching a predicate.
+	 *
+	 * <p>Predicates are tested against every registered item once, when tags are first loaded, so they shouldn't depend on tags.
+	 *
+	 * @param predicate the item predicate
+	 * @param behavior  the behavior
+	 */
+	public synchronized void register(Predicate<Item> predicate, CauldronBehavior behavior) {
+		predicateRules.add(new PredicateRule(predicate, behavior));
+		predicatesDirty = true;
+		if (tagsLoaded) compile();
+	}
+
+	/**
+	 * Recompiles all rules against the currently loaded tags.
+	 *
+	 * <p>Called automatically when a server starts and whenever its data packs are reloaded.
+	 */
+	public synchronized void compile() {
+		tagsLoaded = true;
+
+		if (predicatesDirty) {
+			Reference2ObjectOpenHashMap<Item, CauldronBehavior> compiledPredicates = new Reference2ObjectOpenHashMap<>();
+			for (Item item : Registry.ITEM) {
+				for (PredicateRule rule : predicateRules) {
+					if (rule.predicate().test(item)) compiledPredicates.put(item, rule.behavior());
+				}
+			}
+
+			this.compiledPredicates = compiledPredicates;
+			predicatesDirty = false;
+		}
+
+		Reference2ObjectOpenHashMap<Item, CauldronBehavior> next = new Reference2ObjectOpenHashMap<>(compiledPredicates);
+		for (TagRule rule : tagRules) {
+			for (Item item : rule.tag().values()) {
+				next.put(item, rule.behavior());
+			}
+		}
+
+		Set<Item> items = new ReferenceOpenHashSet<>(compiled.keySet());
+		items.addAll(next.keySet());
+
+		for (Item item : items) {
+			CauldronBehavior previous = compiled.get(item);
+			CauldronBehavior behavior = next.get(item);
+			if (previous != behavior) globals.replace(item, previous, behavior);
+		}
+
+		compiled = next;
+	}
+
+	private record TagRule(Tag<Item> tag, CauldronBehavior behavior) {
+	}
+
+	private record PredicateRule(Predicate<Item> predicate, CauldronBehavior behavior) {
+	}
+}
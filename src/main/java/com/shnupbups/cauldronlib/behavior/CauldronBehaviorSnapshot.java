@@ -0,0 +1,117 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+
+import com.shnupbups.cauldronlib.CauldronLib.CauldronBehaviorMapEntry;
+
+/**
+ * An immutable copy of every registered cauldron behavior map and global behavior.
+ *
+ * <p>Snapshots never change once created, so they can be read from any thread without locking.
+ * Maps registered as layered only hold their own behaviors, and fall back to the shared copy of the global table.
+ *
+ * @see com.shnupbups.cauldronlib.CauldronLib#getSnapshot()
+ */
+public final class CauldronBehaviorSnapshot {
+	private final List<Map<Item, CauldronBehavior>> behaviorMaps;
+	private final Reference2ObjectOpenHashMap<Map<Item, CauldronBehavior>, Map<Item, CauldronBehavior>> copies;
+	private final Set<Map<Item, CauldronBehavior>> layered;
+	private final Map<Item, CauldronBehavior> globalTable;
+	private final Set<CauldronBehaviorMapEntry> globalBehaviors;
+
+	private CauldronBehaviorSnapshot(List<Map<Item, CauldronBehavior>> behaviorMaps, Reference2ObjectOpenHashMap<Map<Item, CauldronBehavior>, Map<Item, CauldronBehavior>> copies,
+									 Set<Map<Item, CauldronBehavior>> layered, Map<Item, CauldronBehavior> globalTable, Set<CauldronBehaviorMapEntry> globalBehaviors) {
+		this.behaviorMaps = behaviorMaps;
+		this.copies = copies;
+		this.layered = layered;
+		this.globalTable = globalTable;
+		this.globalBehaviors = globalBehaviors;
+	}
+
+	/**
+	 * Copies the current contents of a behavior map registry and global behavior table.
+	 *
+	 * <p>Must be called from the thread that registers behaviors.
+	 *
+	 * @param registry        the behavior map registry
+	 * @param globalTable     the shared table of global behaviors
+	 * @param globalBehaviors the registered global behaviors
+	 */
+	public static CauldronBehaviorSnapshot of(CauldronBehaviorMapRegistry registry, Map<Item, CauldronBehavior> globalTable, Collection<CauldronBehaviorMapEntry> globalBehaviors) {
+		Reference2ObjectOpenHashMap<Map<Item, CauldronBehavior>, Map<Item, CauldronBehavior>> copies = new Reference2ObjectOpenHashMap<>(registry.size());
+		List<Map<Item, CauldronBehavior>> ordered = new ArrayList<>(registry.size());
+		Set<Map<Item, CauldronBehavior>> layered = new ReferenceOpenHashSet<>();
+
+		for (Map<Item, CauldronBehavior> behaviorMap : registry.getBehaviorMaps()) {
+			Map<Item, CauldronBehavior> copy = Map.copyOf(behaviorMap);
+			copies.put(behaviorMap, copy);
+			ordered.add(copy);
+			if (registry.isLayered(behaviorMap)) layered.add(behaviorMap);
+		}
+
+		return new CauldronBehaviorSnapshot(List.copyOf(ordered), copies, Collections.unmodifiableSet(layered), Map.copyOf(globalTable), Set.copyOf(globalBehaviors));
+	}
+
+	/**
+	 * Gets copies of all registered behavior maps, in registration order.
+	 *
+	 * <p>Copies of layered maps only hold the behaviors put into them directly.
+	 */
+	public List<Map<Item, CauldronBehavior>> getBehaviorMaps() {
+		return behaviorMaps;
+	}
+
+	/**
+	 * Gets the copy of a registered behavior map, or {@code null} if it wasn't registered when this snapshot was taken.
+	 *
+	 * @param behaviorMap the registered behavior map
+	 */
+	@Nullable
+	public Map<Item, CauldronBehavior> getBehaviors(Map<Item, CauldronBehavior> behaviorMap) {
+		return copies.get(behaviorMap);
+	}
+
+	/**
+	 * Gets the behavior a registered behavior map had for an item, or {@code null} if there was none.
+	 *
+	 * <p>Layered maps fall back to the global table, like {@link LayeredCauldronBehaviorMap} does.
+	 *
+	 * @param behaviorMap the registered behavior map
+	 * @param item        the item
+	 */
+	@Nullable
+	public CauldronBehavior getBehavior(Map<Item, CauldronBehavior> behaviorMap, Item item) {
+		Map<Item, CauldronBehavior> copy = copies.get(behaviorMap);
+		if (copy == null) return null;
+
+		CauldronBehavior behavior = copy.get(item);
+		return behavior == null && layered.contains(behaviorMap) ? globalTable.get(item) : behavior;
+	}
+
+	/**
+	 * Gets the copy of the shared table of bucket and global behaviors.
+	 */
+	public Map<Item, CauldronBehavior> getGlobalTable() {
+		return globalTable;
+	}
+
+	/**
+	 * Gets all global behaviors registered for single items.
+	 */
+	public Set<CauldronBehaviorMapEntry> getGlobalBehaviors() {
+		return globalBehaviors;
+	}
+}
@@ -0,0 +1,43 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.List;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * A cauldron behavior that tries several behaviors in order, returning the first result that isn't {@link ActionResult#PASS}.
+ *
+ * <p>Created by {@link CauldronBehaviorChains} when chains are compiled, so dispatch is a single loop over an array
+ * instead of a stack of behaviors wrapping each other.
+ */
+public final class ChainedCauldronBehavior implements CauldronBehavior {
+	private final CauldronBehavior[] behaviors;
+
+	public ChainedCauldronBehavior(List<CauldronBehavior> behaviors) {
+		this.behaviors = behaviors.toArray(new CauldronBehavior[0]);
+	}
+
+	/**
+	 * Gets the behaviors in this chain, in the order they are tried.
+	 */
+	public List<CauldronBehavior> getBehaviors() {
+		return List.of(behaviors);
+	}
+
+	@Override
+	public ActionResult interact(BlockState state, World world, BlockPos pos, PlayerEntity player, Hand hand, ItemStack stack) {
+		for (CauldronBehavior behavior : behaviors) {
+			ActionResult result = behavior.interact(state, world, pos, player, hand, stack);
+			if (result != ActionResult.PASS) return result;
+		}
+
+		return ActionResult.PASS;
+	}
+}
@@ -0,0 +1,219 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.AbstractCauldronBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.ItemUsage;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.stat.Stats;
+import net.minecraft.tag.ItemTags;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.event.GameEvent;
+
+import com.shnupbups.cauldronlib.metrics.CauldronMetrics;
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+import com.shnupbups.cauldronlib.world.CauldronUpdateBatch;
+
+/**
+ * A cauldron behavior defined in a data pack, under {@code data/<namespace>/cauldron_behaviors/}.
+ *
+ * <pre>{@code
+ * {
+ *   "type": "fill",
+ *   "item": "minecraft:honey_bottle",
+ *   "target": "example:honey_cauldron",
+ *   "level": 1,
+ *   "result": "minecraft:glass_bottle",
+ *   "sound": "minecraft:item.bottle.empty"
+ * }
+ * }</pre>
+ *
+ * <ul>
+ *     <li>{@code type}: {@code fill}, {@code empty} or {@code transform}.</li>
+ *     <li>{@code item} or {@code tag}: the item or item tag the behavior is used with.</li>
+ *     <li>{@code cauldron}: optional, the cauldron block whose behavior map the behavior goes in. Without it, the behavior is global.</li>
+ *     <li>{@code target}: the cauldron block that results, required for {@code fill} and {@code transform}.</li>
+ *     <li>{@code level}: for {@code fill}, the number of levels added, defaulting to 1. For {@code empty}, the number of levels removed,
+ *     defaulting to emptying a full cauldron entirely. For {@code transform}, the level of the result, defaulting to the current level.</li>
+ *     <li>{@code result}: optional, the item the used item is exchanged for. Without it, the used item is consumed.
+ *     Required for {@code empty}.</li>
+ *     <li>{@code sound}: optional, the sound played.</li>
+ * </ul>
+ *
+ * @param type     what the behavior does
+ * @param item     the item the behavior is used with, if not a tag
+ * @param tag      the item tag the behavior is used with, if not a single item
+ * @param cauldron the cauldron block whose behavior map the behavior goes in, or {@code null} for a global behavior
+ * @param target   the cauldron block that results, if any
+ * @param level    the level, meaning depending on the type
+ * @param result   the item the used item is exchanged for, if any
+ * @param sound    the sound played, if any
+ */
+public record DataCauldronBehavior(Type type, @Nullable Item item, @Nullable Identifier tag, @Nullable Block cauldron, @Nullable Block target,
+								   int level, @Nullable Item result, @Nullable SoundEvent sound) {
+	/**
+	 * Reads a data cauldron behavior from JSON.
+	 *
+	 * @param json the JSON object
+	 * @throws JsonSyntaxException if the JSON is invalid or refers to unknown items, blocks or sounds
+	 */
+	public static DataCauldronBehavior fromJson(JsonObject json) {
+		Type type = Type.byName(JsonHelper.getString(json, "type"));
+
+		Item item = json.has("item") ? getEntry(Registry.ITEM, JsonHelper.getString(json, "item"), "item") : null;
+		Identifier tag = json.has("tag") ? new Identifier(JsonHelper.getString(json, "tag")) : null;
+		if ((item == null) == (tag == null)) throw new JsonSyntaxException("Expected exactly one of 'item' or 'tag'");
+
+		Block cauldron = json.has("cauldron") ? getEntry(Registry.BLOCK, JsonHelper.getString(json, "cauldron"), "block") : null;
+		if (cauldron != null && !(cauldron instanceof AbstractCauldronBlock)) throw new JsonSyntaxException("Block " + Registry.BLOCK.getId(cauldron) + " is not a cauldron");
+
+		Block target = json.has("target") ? getEntry(Registry.BLOCK, JsonHelper.getString(json, "target"), "block") : null;
+		if (target == null && type != Type.EMPTY) throw new JsonSyntaxException("Missing 'target', required for " + type.getName() + " behaviors");
+		if (target != null && !CauldronStateTable.isCauldron(CauldronStateTable.get(target.getDefaultState()))) {
+			throw new JsonSyntaxException("Block " + Registry.BLOCK.getId(target) + " is not a known cauldron");
+		}
+
+		int level = JsonHelper.getInt(json, "level", type == Type.FILL ? 1 : 0);
+		if (level < 0 || (type == Type.FILL && level == 0)) throw new JsonSyntaxException("Invalid level " + level + " for " + type.getName() + " behavior");
+
+		Item result = json.has("result") ? getEntry(Registry.ITEM, JsonHelper.getString(json, "result"), "item") : null;
+		if (result == null && type == Type.EMPTY) throw new JsonSyntaxException("Missing 'result', required for empty behaviors");
+
+		SoundEvent sound = json.has("sound") ? getEntry(Registry.SOUND_EVENT, JsonHelper.getString(json, "sound"), "sound") : type.defaultSound;
+
+		return new DataCauldronBehavior(type, item, tag, cauldron, target, level, result, sound);
+	}
+
+	private static <T> T getEntry(Registry<T> registry, String id, String what) {
+		return registry.getOrEmpty(new Identifier(id)).orElseThrow(() -> new JsonSyntaxException("Unknown " + what + " '" + id + "'"));
+	}
+
+	/**
+	 * Gets the items this behavior is used with, resolving its tag against the currently loaded tags.
+	 */
+	public Collection<Item> getItems() {
+		if (item != null) return List.of(item);
+		return ItemTags.getTagGroup().getTagOrEmpty(tag).values();
+	}
+
+	/**
+	 * Creates the cauldron behavior this describes.
+	 */
+	public CauldronBehavior createBehavior() {
+		return CauldronMetrics.instrument("data_" + type.getName(), (state, world, pos, player, hand, stack) -> {
+			BlockState newState = getResultState(state);
+			if (newState == null) return ActionResult.PASS;
+
+			if (!world.isClient) {
+				Item used = stack.getItem();
+
+				if (result != null) {
+					player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, new ItemStack(result)));
+				} else if (!player.getAbilities().creativeMode) {
+					stack.decrement(1);
+				}
+
+				player.incrementStat(Stats.USE_CAULDRON);
+				player.incrementStat(Stats.USED.getOrCreateStat(used));
+				CauldronUpdateBatch.setBlockState(world, pos, newState);
+				if (sound != null) world.playSound(null, pos, sound, SoundCategory.BLOCKS, 1.0F, 1.0F);
+				world.emitGameEvent(null, type.gameEvent, pos);
+			}
+
+			return ActionResult.success(world.isClient);
+		});
+	}
+
+	/**
+	 * Gets the block state a cauldron becomes when this behavior is used on it, or {@code null} if the behavior doesn't apply.
+	 *
+	 * @param state the block state of the cauldron
+	 */
+	@Nullable
+	public BlockState getResultState(BlockState state) {
+		int packed = CauldronStateTable.get(state);
+		if (!CauldronStateTable.isCauldron(packed)) return null;
+
+		int currentLevel = CauldronStateTable.getFluidLevel(packed);
+
+		return switch (type) {
+			case FILL -> {
+				if (state.isOf(target)) yield CauldronStateTable.getStateForLevel(state, currentLevel + level, false);
+				if (currentLevel != 0) yield null;
+
+				// Filling a different cauldron always changes the block, even if the target's default state already has the level
+				BlockState[] transitions = CauldronStateTable.getTransitions(target.getDefaultState());
+				yield transitions == null ? null : CauldronStateTable.getStateForLevel(target.getDefaultState(), Math.min(level, transitions.length - 1));
+			}
+			case EMPTY -> {
+				if (level == 0) {
+					yield currentLevel > 0 && currentLevel == CauldronStateTable.getMaxFluidLevel(packed) ? CauldronStateTable.getStateForLevel(state, 0) : null;
+				}
+				yield CauldronStateTable.getStateForLevel(state, currentLevel - level, true);
+			}
+			case TRANSFORM -> {
+				BlockState[] transitions = CauldronStateTable.getTransitions(target.getDefaultState());
+				if (currentLevel <= 0 || transitions == null) yield null;
+
+				BlockState newState = transitions[MathHelper.clamp(level > 0 ? level : currentLevel, 1, transitions.length - 1)];
+				yield newState == state ? null : newState;
+			}
+		};
+	}
+
+	/**
+	 * What a data cauldron behavior does.
+	 */
+	public enum Type {
+		/**
+		 * Fills an empty cauldron, or adds to a cauldron of the target block.
+		 */
+		FILL(SoundEvents.ITEM_BUCKET_EMPTY, GameEvent.FLUID_PLACE),
+		/**
+		 * Removes fluid from a cauldron.
+		 */
+		EMPTY(SoundEvents.ITEM_BUCKET_FILL, GameEvent.FLUID_PICKUP),
+		/**
+		 * Turns a non-empty cauldron into the target block.
+		 */
+		TRANSFORM(null, GameEvent.BLOCK_CHANGE);
+
+		@Nullable
+		private final SoundEvent defaultSound;
+		private final GameEvent gameEvent;
+
+		Type(@Nullable SoundEvent defaultSound, GameEvent gameEvent) {
+			this.defaultSound = defaultSound;
+			this.gameEvent = gameEvent;
+		}
+
+		public String getName() {
+			return name().toLowerCase(Locale.ROOT);
+		}
+
+		public static Type byName(String name) {
+			for (Type type : values()) {
+				if (type.getName().equals(name)) return type;
+			}
+
+			throw new JsonSyntaxException("Unknown cauldron behavior type '" + name + "', expected fill, empty or transform");
+		}
+	}
+}
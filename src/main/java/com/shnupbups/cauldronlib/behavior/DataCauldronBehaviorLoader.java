@@ -0,0 +1,158 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.mixin.AbstractCauldronBlockAccessor;
+
+/**
+ * Loads {@link DataCauldronBehavior}s from data packs and compiles them into the behavior maps.
+ *
+ * <p>Files are read when data packs are (re)loaded, then compiled once tags are available. Each compile is diffed against the
+ * previous one, so only items whose behavior actually changed are touched, and unchanged definitions keep their behavior instances.
+ *
+ * <p>Data behaviors override behaviors registered in code. Whatever they replaced is put back when they are removed.
+ * Later files, ordered by id, take precedence over earlier ones for the same item and cauldron.
+ *
+ * <p>Data packs only exist on the server, so data behaviors are server-only. Clients connected to a remote server don't have them,
+ * and return {@link net.minecraft.util.ActionResult#PASS} for interactions only a data behavior handles.
+ */
+public class DataCauldronBehaviorLoader implements SimpleSynchronousResourceReloadListener {
+	public static final Identifier ID = new Identifier("cauldronlib", "cauldron_behaviors");
+	private static final String DIRECTORY = "cauldron_behaviors";
+	private static final String EXTENSION = ".json";
+
+	private final GlobalCauldronBehaviorTable globals;
+
+	private volatile List<DataCauldronBehavior> definitions = List.of();
+	private Map<DataCauldronBehavior, CauldronBehavior> behaviors = new HashMap<>();
+	private Map<Key, Applied> applied = new HashMap<>();
+
+	public DataCauldronBehaviorLoader(GlobalCauldronBehaviorTable globals) {
+		this.globals = globals;
+	}
+
+	@Override
+	public Identifier getFabricId() {
+		return ID;
+	}
+
+	@Override
+	public void reload(ResourceManager manager) {
+		List<DataCauldronBehavior> loaded = new ArrayList<>();
+
+		manager.findResources(DIRECTORY, (path) -> path.endsWith(EXTENSION)).stream().sorted().forEach((id) -> {
+			try (Resource resource = manager.getResource(id); Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+				JsonObject json = JsonHelper.deserialize(reader);
+				loaded.add(DataCauldronBehavior.fromJson(json));
+			} catch (Exception e) {
+				CauldronLib.LOGGER.error("Couldn't load cauldron behavior {}", id, e);
+			}
+		});
+
+		definitions = List.copyOf(loaded);
+	}
+
+	/**
+	 * Compiles the loaded definitions against the currently loaded tags, updating only the entries that changed.
+	 *
+	 * <p>Called automatically when a server starts and whenever its data packs are reloaded.
+	 */
+	public synchronized void compile() {
+		Map<DataCauldronBehavior, CauldronBehavior> nextBehaviors = new HashMap<>();
+		Map<Key, CauldronBehavior> next = new LinkedHashMap<>();
+
+		for (DataCauldronBehavior definition : definitions) {
+			CauldronBehavior behavior = nextBehaviors.computeIfAbsent(definition, (d) -> {
+				CauldronBehavior previous = behaviors.get(d);
+				return previous != null ? previous : d.createBehavior();
+			});
+
+			for (Item item : definition.getItems()) {
+				next.put(new Key(definition.cauldron(), item), behavior);
+			}
+		}
+
+		Set<Key> keys = new LinkedHashSet<>(applied.keySet());
+		keys.addAll(next.keySet());
+		Map<Key, Applied> nextApplied = new HashMap<>();
+		int changed = 0;
+
+		for (Key key : keys) {
+			Applied previous = applied.get(key);
+			CauldronBehavior behavior = next.get(key);
+
+			if (previous != null && previous.behavior() == behavior) {
+				nextApplied.put(key, previous);
+				continue;
+			}
+
+			changed++;
+
+			if (previous == null) {
+				CauldronBehavior original = get(key);
+				replace(key, original, behavior);
+				nextApplied.put(key, new Applied(behavior, original));
+			} else if (behavior == null) {
+				replace(key, previous.behavior(), previous.original());
+			} else {
+				replace(key, previous.behavior(), behavior);
+				nextApplied.put(key, new Applied(behavior, previous.original()));
+			}
+		}
+
+		behaviors = nextBehaviors;
+		applied = nextApplied;
+
+		if (changed > 0) CauldronLib.LOGGER.debug("Updated {} data-driven cauldron behaviors", changed);
+	}
+
+	@Nullable
+	private CauldronBehavior get(Key key) {
+		return key.cauldron() == null ? globals.get(key.item()) : LayeredCauldronBehaviorMap.getOrNull(getBehaviorMap(key.cauldron()), key.item());
+	}
+
+	private void replace(Key key, @Nullable CauldronBehavior expected, @Nullable CauldronBehavior behavior) {
+		if (key.cauldron() == null) {
+			globals.replace(key.item(), expected, behavior);
+		} else {
+			GlobalCauldronBehaviorTable.replace(getBehaviorMap(key.cauldron()), key.item(), expected, behavior);
+		}
+	}
+
+	/**
+	 * Gets the behavior map a cauldron's own behaviors are kept in, skipping the shared layer of layered maps.
+	 */
+	private static Map<Item, CauldronBehavior> getBehaviorMap(Block cauldron) {
+		Map<Item, CauldronBehavior> behaviorMap = ((AbstractCauldronBlockAccessor) cauldron).cauldronlib$getBehaviorMap();
+		return behaviorMap instanceof LayeredCauldronBehaviorMap layered ? layered.getLocal() : behaviorMap;
+	}
+
+	private record Key(@Nullable Block cauldron, Item item) {
+	}
+
+	private record Applied(CauldronBehavior behavior, @Nullable CauldronBehavior original) {
+	}
+}
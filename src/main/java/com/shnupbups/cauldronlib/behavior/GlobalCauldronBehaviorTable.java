@@ -0,0 +1,135 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+
+/**
+ * The table of behaviors shared by every registered cauldron behavior map.
+ *
+ * <p>{@link LayeredCauldronBehaviorMap}s look behaviors up in this table directly. Every change is also copied into the
+ * {@linkplain CauldronBehaviorMapRegistry#getFlatBehaviorMaps() flat behavior maps}, which are used by blocks outside of CauldronLib.
+ *
+ * <p>Items with a compiled {@linkplain CauldronBehaviorChains global chain} have the chain in the table, while the behavior
+ * the chain falls back to is kept in a separate slot. Getting, setting and replacing the behavior for such an item works on
+ * that slot, so behaviors compiled from rules or data still apply behind the chain.
+ */
+public class GlobalCauldronBehaviorTable {
+	private final ArrayCauldronBehaviorMap table = new ArrayCauldronBehaviorMap();
+	private final CauldronBehaviorMapRegistry registry;
+	private final Reference2ObjectOpenHashMap<Item, CauldronBehavior> chainFallbacks = new Reference2ObjectOpenHashMap<>();
+
+	public GlobalCauldronBehaviorTable(CauldronBehaviorMapRegistry registry) {
+		this.registry = registry;
+		CauldronBehavior.registerBucketBehavior(table);
+	}
+
+	/**
+	 * Gets the underlying table. Changes should be made through this class so that flat behavior maps are kept up to date.
+	 */
+	public Map<Item, CauldronBehavior> getTable() {
+		return table;
+	}
+
+	/**
+	 * Gets the global behavior for an item, or {@code null} if there is none.
+	 *
+	 * <p>For items with a global chain, this is the behavior the chain falls back to.
+	 *
+	 * @param item the item
+	 */
+	@Nullable
+	public CauldronBehavior get(Item item) {
+		if (chainFallbacks.containsKey(item)) return chainFallbacks.get(item);
+		return LayeredCauldronBehaviorMap.getOrNull(table, item);
+	}
+
+	/**
+	 * Sets the global behavior for an item.
+	 *
+	 * @param item     the item
+	 * @param behavior the behavior
+	 */
+	public void put(Item item, CauldronBehavior behavior) {
+		if (chainFallbacks.containsKey(item)) {
+			chainFallbacks.put(item, behavior);
+			return;
+		}
+
+		table.put(item, behavior);
+		registry.getFlatBehaviorMaps().forEach((map) -> map.put(item, behavior));
+	}
+
+	/**
+	 * Replaces the global behavior for an item, but only in maps where it is still the expected behavior.
+	 *
+	 * <p>Used to update behaviors compiled from other sources without overwriting behaviors registered since.
+	 *
+	 * @param item     the item
+	 * @param expected the behavior expected to be present, or {@code null} if none is expected
+	 * @param behavior the new behavior, or {@code null} to remove it
+	 * @return whether the behavior in the table itself was replaced
+	 */
+	public boolean replace(Item item, @Nullable CauldronBehavior expected, @Nullable CauldronBehavior behavior) {
+		if (chainFallbacks.containsKey(item)) {
+			if (chainFallbacks.get(item) != expected) return false;
+			chainFallbacks.put(item, behavior);
+			return true;
+		}
+
+		boolean replaced = replace(table, item, expected, behavior);
+		registry.getFlatBehaviorMaps().forEach((map) -> replace(map, item, expected, behavior));
+		return replaced;
+	}
+
+	/**
+	 * Puts a compiled chain in front of the global behavior for an item.
+	 *
+	 * <p>The current behavior is moved to a separate slot, which {@link #get(Item)} returns from then on.
+	 * The chain should end with a link that looks that slot up when it's reached.
+	 *
+	 * @param item  the item
+	 * @param chain the compiled chain
+	 */
+	void putChain(Item item, CauldronBehavior chain) {
+		if (!chainFallbacks.containsKey(item)) chainFallbacks.put(item, get(item));
+
+		table.put(item, chain);
+		registry.getFlatBehaviorMaps().forEach((map) -> map.put(item, chain));
+	}
+
+	/**
+	 * Copies every global behavior into a behavior map.
+	 *
+	 * @param behaviorMap the behavior map to copy into
+	 */
+	public void copyInto(Map<Item, CauldronBehavior> behaviorMap) {
+		table.forEach(behaviorMap::put);
+	}
+
+	/**
+	 * Replaces the behavior for an item in a behavior map, but only if it is still the expected behavior.
+	 *
+	 * @param behaviorMap the behavior map
+	 * @param item        the item
+	 * @param expected    the behavior expected to be present, or {@code null} if none is expected
+	 * @param behavior    the new behavior, or {@code null} to remove it
+	 * @return whether the behavior was replaced
+	 */
+	public static boolean replace(Map<Item, CauldronBehavior> behaviorMap, Item item, @Nullable CauldronBehavior expected, @Nullable CauldronBehavior behavior) {
+		if (LayeredCauldronBehaviorMap.getOrNull(behaviorMap, item) != expected) return false;
+
+		if (behavior == null) {
+			behaviorMap.remove(item);
+		} else {
+			behaviorMap.put(item, behavior);
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,108 @@
+package com.shnupbups.cauldronlib.behavior;
+
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.objects.AbstractObject2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectFunction;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+/**
+ * A cauldron behavior map that looks behaviors up in a per-cauldron local map first, then in a shared global map.
+ *
+ * <p>This lets global behaviors be registered once, rather than being copied into every cauldron's behavior map.
+ * Writes go to the local map. Behaviors in the local map take precedence over global ones.
+ */
+public class LayeredCauldronBehaviorMap extends AbstractObject2ObjectMap<Item, CauldronBehavior> {
+	private final Map<Item, CauldronBehavior> local;
+	private final Map<Item, CauldronBehavior> global;
+
+	public LayeredCauldronBehaviorMap(Map<Item, CauldronBehavior> local, Map<Item, CauldronBehavior> global) {
+		this.local = local;
+		this.global = global;
+		this.defaultReturnValue(CauldronLib.PASS_BEHAVIOR);
+	}
+
+	/**
+	 * Gets the local map this map looks behaviors up in first.
+	 */
+	public Map<Item, CauldronBehavior> getLocal() {
+		return local;
+	}
+
+	/**
+	 * Gets the shared map this map falls back to.
+	 */
+	public Map<Item, CauldronBehavior> getGlobal() {
+		return global;
+	}
+
+	/**
+	 * Gets the behavior the given map holds for an item, or {@code null} if there is none.
+	 *
+	 * <p>Unlike {@link Map#get(Object)}, this treats the default return value of maps like the ones made by
+	 * {@link CauldronBehavior#createMap()} as absent.
+	 *
+	 * @param map  the map to look in
+	 * @param item the item to look up
+	 */
+	public static CauldronBehavior getOrNull(Map<Item, CauldronBehavior> map, Object item) {
+		CauldronBehavior behavior = map.get(item);
+		if (behavior != null && map instanceof Object2ObjectFunction<?, ?> function && behavior == function.defaultReturnValue()) return null;
+		return behavior;
+	}
+
+	@Override
+	public CauldronBehavior get(Object item) {
+		CauldronBehavior behavior = getOrNull(local, item);
+		if (behavior == null) behavior = getOrNull(global, item);
+		return behavior == null ? defaultReturnValue() : behavior;
+	}
+
+	@Override
+	public boolean containsKey(Object item) {
+		return getOrNull(local, item) != null || getOrNull(global, item) != null;
+	}
+
+	@Override
+	public CauldronBehavior put(Item item, CauldronBehavior behavior) {
+		return local.put(item, behavior);
+	}
+
+	@Override
+	public CauldronBehavior remove(Object item) {
+		return local.remove(item);
+	}
+
+	@Override
+	public void clear() {
+		local.clear();
+	}
+
+	@Override
+	public int size() {
+		return flatten().size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The returned set is a snapshot of both layers and does not write through to this map.
+	 */
+	@Override
+	public ObjectSet<Object2ObjectMap.Entry<Item, CauldronBehavior>> object2ObjectEntrySet() {
+		return flatten().object2ObjectEntrySet();
+	}
+
+	private Object2ObjectLinkedOpenHashMap<Item, CauldronBehavior> flatten() {
+		Object2ObjectLinkedOpenHashMap<Item, CauldronBehavior> flattened = new Object2ObjectLinkedOpenHashMap<>(global);
+		flattened.putAll(local);
+		return flattened;
+	}
+}
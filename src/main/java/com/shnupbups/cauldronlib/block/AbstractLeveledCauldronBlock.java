@@ -5,24 +5,37 @@ import java.util.Map;
 import net.minecraft.block.AbstractCauldronBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
 import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.entity.Entity;
+import net.minecraft.fluid.Fluid;
 import net.minecraft.item.Item;
 import net.minecraft.state.StateManager;
 import net.minecraft.state.property.IntProperty;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 
 import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.world.CauldronDripstoneFill;
 
 /**
  * Represents a cauldron that has multiple fluid levels, like vanilla Water Cauldrons.
  */
 public abstract class AbstractLeveledCauldronBlock extends AbstractCauldronBlock {
+	private double[] fluidHeights;
+	private int[] comparatorOutputs;
+	private Box[] fluidBoxes;
+	private final boolean customSetFluidLevel;
+	private final boolean customFluidHeight;
+
 	public AbstractLeveledCauldronBlock(Settings settings, Map<Item, CauldronBehavior> behaviorMap) {
-		super(settings, behaviorMap);
+		super(settings, CauldronLib.createLayeredBehaviorMap(behaviorMap));
+		this.customSetFluidLevel = MethodOverrides.overrides(getClass(), AbstractLeveledCauldronBlock.class, "setFluidLevel", BlockState.class, World.class, BlockPos.class, boolean.class, int.class);
+		this.customFluidHeight = MethodOverrides.overridesGetFluidHeight(getClass(), AbstractLeveledCauldronBlock.class);
 		this.setDefaultState(this.stateManager.getDefaultState().with(getLevelProperty(), 1));
-		CauldronLib.registerBehaviorMap(behaviorMap);
+		if (!CauldronLib.registerLayeredBehaviorMap(behaviorMap)) {
+			CauldronLib.LOGGER.warn("Behavior map passed to {} was already registered by another cauldron", this.getClass().getName());
+		}
 	}
 
 	/**
@@ -35,8 +48,29 @@ public abstract class AbstractLeveledCauldronBlock extends AbstractCauldronBlock
 	 */
 	public abstract int getMaxLevel();
 
-	private double getLevelAsThirds(BlockState state) {
-		return (double) getFluidLevel(state) / ((double) getMaxLevel() / 3d);
+	/**
+	 * Precomputes the fluid height, fluid box and comparator output of every fluid level of this cauldron.
+	 *
+	 * <p>Fluid heights and comparator outputs are scaled so that this cauldron matches a vanilla Water Cauldron's three levels,
+	 * with comparator outputs rounded up exactly using integer arithmetic.
+	 *
+	 * <p>Called the first time either is needed. Subclasses that know their maximum fluid level during construction may call it earlier.
+	 */
+	protected void computeLevelTables() {
+		int maxLevel = getMaxLevel();
+		double[] fluidHeights = new double[maxLevel + 1];
+		int[] comparatorOutputs = new int[maxLevel + 1];
+		Box[] fluidBoxes = new Box[maxLevel + 1];
+
+		for (int level = 0; level <= maxLevel; level++) {
+			fluidHeights[level] = (6.0D * maxLevel + 9.0D * level) / (16.0D * maxLevel);
+			comparatorOutputs[level] = Math.max(1, (3 * level + maxLevel - 1) / maxLevel);
+			fluidBoxes[level] = CauldronLib.createFluidBox(fluidHeights[level]);
+		}
+
+		this.fluidHeights = fluidHeights;
+		this.comparatorOutputs = comparatorOutputs;
+		this.fluidBoxes = fluidBoxes;
 	}
 
 	/**
@@ -48,6 +82,15 @@ public abstract class AbstractLeveledCauldronBlock extends AbstractCauldronBlock
 		return state.get(getLevelProperty());
 	}
 
+	/**
+	 * Whether this cauldron overrides {@link #setFluidLevel(BlockState, World, BlockPos, boolean, int)}.
+	 *
+	 * <p>If it doesn't, CauldronLib applies fluid level changes to it directly rather than going through this block.
+	 */
+	public final boolean hasCustomSetFluidLevel() {
+		return customSetFluidLevel;
+	}
+
 	/**
 	 * Sets the fluid level of this cauldron.
 	 *
@@ -59,11 +102,7 @@ public abstract class AbstractLeveledCauldronBlock extends AbstractCauldronBlock
 	 * @return whether any change was made
 	 */
 	public boolean setFluidLevel(BlockState state, World world, BlockPos pos, boolean required, int level) {
-		int actualLevel = Math.max(0, Math.min(level, getMaxLevel()));
-
-		if ((level != actualLevel && required) || getFluidLevel(state) == actualLevel) return false;
-
-		return world.setBlockState(pos, actualLevel == 0 ? Blocks.CAULDRON.getDefaultState() : state.with(getLevelProperty(), actualLevel));
+		return CauldronLib.planSetFluidLevel(state, required, level).applyDirectly(world, pos);
 	}
 
 	/**
@@ -185,19 +224,51 @@ public abstract class AbstractLeveledCauldronBlock extends AbstractCauldronBlock
 		return incrementFluidLevel(state, world, pos, true, amount);
 	}
 
+	/**
+	 * Gets the box, relative to this cauldron's position, that entities must intersect to be touching its fluid.
+	 *
+	 * <p>The box follows {@link #getFluidHeight(BlockState)}. It is cached per fluid level, unless a subclass overrides the fluid height.
+	 *
+	 * @param state the block state of this cauldron
+	 */
+	public Box getFluidBox(BlockState state) {
+		if (customFluidHeight) return CauldronLib.createFluidBox(getFluidHeight(state));
+		if (fluidBoxes == null) computeLevelTables();
+		return fluidBoxes[getFluidLevel(state)];
+	}
+
 	@Override
 	public boolean isFull(BlockState state) {
 		return state.get(getLevelProperty()) == getMaxLevel();
 	}
 
+	@Override
+	protected boolean canBeFilledByDripstone(Fluid fluid) {
+		return CauldronDripstoneFill.canFill(this, fluid);
+	}
+
+	@Override
+	protected void fillFromDripstone(BlockState state, World world, BlockPos pos, Fluid fluid) {
+		CauldronDripstoneFill.fill(state, world, pos, fluid);
+	}
+
 	@Override
 	protected double getFluidHeight(BlockState state) {
-		return (6.0D + getLevelAsThirds(state) * 3.0D) / 16.0D;
+		if (fluidHeights == null) computeLevelTables();
+		return fluidHeights[getFluidLevel(state)];
+	}
+
+	@Override
+	protected boolean isEntityTouchingFluid(BlockState state, BlockPos pos, Entity entity) {
+		if (customFluidHeight) return super.isEntityTouchingFluid(state, pos, entity);
+		if (fluidBoxes == null) computeLevelTables();
+		return CauldronLib.isEntityTouchingFluid(fluidBoxes[getFluidLevel(state)], pos, entity);
 	}
 
 	@Override
 	public int getComparatorOutput(BlockState state, World world, BlockPos pos) {
-		return (int) Math.max(1, Math.ceil(getLevelAsThirds(state)));
+		if (comparatorOutputs == null) computeLevelTables();
+		return comparatorOutputs[getFluidLevel(state)];
 	}
 
 	@Override
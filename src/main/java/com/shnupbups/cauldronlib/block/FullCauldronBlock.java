@@ -5,24 +5,52 @@ import java.util.Map;
 import net.minecraft.block.AbstractCauldronBlock;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.entity.Entity;
+import net.minecraft.fluid.Fluid;
 import net.minecraft.item.Item;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 
 import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.world.CauldronDripstoneFill;
 
 /**
  * Represents a cauldron that only has a single fluid level, like vanilla Lava Cauldrons.
  */
 public class FullCauldronBlock extends AbstractCauldronBlock {
+	public static final double FLUID_HEIGHT = 0.9375D;
+	public static final Box FLUID_BOX = CauldronLib.createFluidBox(FLUID_HEIGHT);
+
+	private final boolean customFluidHeight;
+
 	public FullCauldronBlock(Settings settings, Map<Item, CauldronBehavior> behaviorMap) {
-		super(settings, behaviorMap);
-		CauldronLib.registerBehaviorMap(behaviorMap);
+		super(settings, CauldronLib.createLayeredBehaviorMap(behaviorMap));
+		this.customFluidHeight = MethodOverrides.overridesGetFluidHeight(getClass(), FullCauldronBlock.class);
+		if (!CauldronLib.registerLayeredBehaviorMap(behaviorMap)) {
+			CauldronLib.LOGGER.warn("Behavior map passed to {} was already registered by another cauldron", this.getClass().getName());
+		}
+	}
+
+	/**
+	 * Gets the box, relative to this cauldron's position, that entities must intersect to be touching its fluid.
+	 *
+	 * <p>The box follows {@link #getFluidHeight(BlockState)}. It is {@link #FLUID_BOX}, unless a subclass overrides the fluid height.
+	 *
+	 * @param state the block state of this cauldron
+	 */
+	public Box getFluidBox(BlockState state) {
+		return customFluidHeight ? CauldronLib.createFluidBox(getFluidHeight(state)) : FLUID_BOX;
 	}
 
 	@Override
 	protected double getFluidHeight(BlockState state) {
-		return 0.9375D;
+		return FLUID_HEIGHT;
+	}
+
+	@Override
+	protected boolean isEntityTouchingFluid(BlockState state, BlockPos pos, Entity entity) {
+		return customFluidHeight ? super.isEntityTouchingFluid(state, pos, entity) : CauldronLib.isEntityTouchingFluid(FLUID_BOX, pos, entity);
 	}
 
 	@Override
@@ -30,6 +58,16 @@ public class FullCauldronBlock extends AbstractCauldronBlock {
 		return true;
 	}
 
+	@Override
+	protected boolean canBeFilledByDripstone(Fluid fluid) {
+		return CauldronDripstoneFill.canFill(this, fluid);
+	}
+
+	@Override
+	protected void fillFromDripstone(BlockState state, World world, BlockPos pos, Fluid fluid) {
+		CauldronDripstoneFill.fill(state, world, pos, fluid);
+	}
+
 	@Override
 	public int getComparatorOutput(BlockState state, World world, BlockPos pos) {
 		return 3;
@@ -0,0 +1,99 @@
+package com.shnupbups.cauldronlib.block;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+
+import net.minecraft.block.BlockEntityProvider;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import com.shnupbups.cauldronlib.block.entity.HighResolutionCauldronBlockEntity;
+
+/**
+ * Represents a cauldron that stores its exact fluid amount, down to a droplet, in a {@link HighResolutionCauldronBlockEntity}.
+ *
+ * <p>The block state still holds a visible fluid level, from 1 to the maximum level, which is what
+ * {@link com.shnupbups.cauldronlib.CauldronLib#getFluidLevel(BlockState)} and friends work with. Any amount of fluid shows at least level 1.
+ * Clients are only sent changes to the visible level, never every change to the exact amount.
+ *
+ * <p>The block entity type must be registered by the mod creating the cauldron, with {@link HighResolutionCauldronBlockEntity#HighResolutionCauldronBlockEntity(BlockPos, BlockState)} as its factory.
+ */
+public class HighResolutionCauldronBlock extends MultiLeveledCauldronBlock implements BlockEntityProvider {
+	private final Supplier<BlockEntityType<HighResolutionCauldronBlockEntity>> blockEntityType;
+	private final long capacity;
+
+	/**
+	 * @param settings        the block settings
+	 * @param behaviorMap     the cauldron's own behavior map
+	 * @param maxLevel        the number of visible fluid levels, from 2 to 15
+	 * @param capacity        the amount of fluid, in droplets, a full cauldron holds
+	 * @param blockEntityType the block entity type, looked up lazily as it is usually registered after the block
+	 */
+	public HighResolutionCauldronBlock(Settings settings, Map<Item, CauldronBehavior> behaviorMap, int maxLevel, long capacity, Supplier<BlockEntityType<HighResolutionCauldronBlockEntity>> blockEntityType) {
+		super(settings, behaviorMap, maxLevel);
+		if (capacity < maxLevel) throw new IllegalArgumentException("Cauldron capacity must be at least its max level, got " + capacity);
+
+		this.capacity = capacity;
+		this.blockEntityType = blockEntityType;
+	}
+
+	/**
+	 * Creates a high resolution cauldron that holds one bucket of fluid.
+	 *
+	 * @see #HighResolutionCauldronBlock(Settings, Map, int, long, Supplier)
+	 */
+	public HighResolutionCauldronBlock(Settings settings, Map<Item, CauldronBehavior> behaviorMap, int maxLevel, Supplier<BlockEntityType<HighResolutionCauldronBlockEntity>> blockEntityType) {
+		this(settings, behaviorMap, maxLevel, FluidConstants.BUCKET, blockEntityType);
+	}
+
+	public BlockEntityType<HighResolutionCauldronBlockEntity> getBlockEntityType() {
+		return blockEntityType.get();
+	}
+
+	/**
+	 * Gets the amount of fluid, in droplets, a full cauldron holds.
+	 */
+	public long getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the visible fluid level for an exact amount of fluid, rounding up so that any fluid is visible.
+	 *
+	 * @param amount the amount of fluid, in droplets
+	 */
+	public int getLevelForAmount(long amount) {
+		if (amount <= 0) return 0;
+		return (int) Math.min(getMaxLevel(), (amount * getMaxLevel() + capacity - 1) / capacity);
+	}
+
+	/**
+	 * Gets the exact amount of fluid a visible fluid level stands for, used when the level was changed without going through the block entity.
+	 *
+	 * @param level the visible fluid level
+	 */
+	public long getAmountForLevel(int level) {
+		return capacity * level / getMaxLevel();
+	}
+
+	@Override
+	@Nullable
+	public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+		return new HighResolutionCauldronBlockEntity(pos, state);
+	}
+
+	@Override
+	public void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
+		if (!state.isOf(newState.getBlock())) world.removeBlockEntity(pos);
+		super.onStateReplaced(state, world, pos, newState, moved);
+	}
+}
@@ -0,0 +1,62 @@
+package com.shnupbups.cauldronlib.block;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import net.minecraft.block.BlockState;
+
+/**
+ * Finds out whether subclasses of CauldronLib's cauldron blocks override a method, so the default implementation can take shortcuts.
+ *
+ * <p>Only checked once per block, when it is constructed.
+ */
+final class MethodOverrides {
+	/**
+	 * The runtime name of {@code getFluidHeight}, which is remapped outside of development.
+	 */
+	private static final String GET_FLUID_HEIGHT = findGetFluidHeight();
+
+	private MethodOverrides() {
+	}
+
+	/**
+	 * Whether a class, or any of its superclasses below a base class, declares {@code getFluidHeight(BlockState)}.
+	 *
+	 * @param type the class to check
+	 * @param base the class whose implementation is the default
+	 */
+	static boolean overridesGetFluidHeight(Class<?> type, Class<?> base) {
+		return overrides(type, base, GET_FLUID_HEIGHT, BlockState.class);
+	}
+
+	/**
+	 * Whether a class, or any of its superclasses below a base class, declares a method.
+	 *
+	 * @param type           the class to check
+	 * @param base           the class whose implementation is the default
+	 * @param name           the name of the method
+	 * @param parameterTypes the parameter types of the method
+	 */
+	static boolean overrides(Class<?> type, Class<?> base, String name, Class<?>... parameterTypes) {
+		for (Class<?> current = type; current != null && current != base; current = current.getSuperclass()) {
+			try {
+				current.getDeclaredMethod(name, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException ignored) {
+			}
+		}
+
+		return false;
+	}
+
+	private static String findGetFluidHeight() {
+		// The only method of AbstractLeveledCauldronBlock taking a block state and returning a double
+		for (Method method : AbstractLeveledCauldronBlock.class.getDeclaredMethods()) {
+			if (method.getReturnType() == double.class && Arrays.equals(method.getParameterTypes(), new Class<?>[] {BlockState.class})) {
+				return method.getName();
+			}
+		}
+
+		throw new IllegalStateException("Could not find getFluidHeight in " + AbstractLeveledCauldronBlock.class.getName());
+	}
+}
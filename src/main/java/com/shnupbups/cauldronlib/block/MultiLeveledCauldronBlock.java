@@ -0,0 +1,78 @@
+package com.shnupbups.cauldronlib.block;
+
+import java.util.Map;
+
+import net.fabricmc.fabric.api.object.builder.v1.block.FabricBlockSettings;
+
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.state.property.IntProperty;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.Util;
+
+/**
+ * Represents a cauldron that has a configurable number of fluid levels, from 2 to 15.
+ *
+ * <p>For a cauldron with a single fluid level, use {@link FullCauldronBlock}.
+ */
+public class MultiLeveledCauldronBlock extends AbstractLeveledCauldronBlock {
+	public static final int MIN_LEVELS = 2;
+	public static final int MAX_LEVELS = 15;
+
+	private static final IntProperty[] LEVEL_PROPERTIES = Util.make(new IntProperty[MAX_LEVELS + 1], (properties) -> {
+		for (int maxLevel = MIN_LEVELS; maxLevel <= MAX_LEVELS; maxLevel++) {
+			properties[maxLevel] = maxLevel == 3 ? Properties.LEVEL_3 : IntProperty.of("level", 1, maxLevel);
+		}
+	});
+
+	private IntProperty levelProperty;
+	private int maxLevel;
+
+	public MultiLeveledCauldronBlock(Settings settings, Map<Item, CauldronBehavior> behaviorMap, int maxLevel) {
+		super(new LevelSettings(settings, maxLevel), behaviorMap);
+		this.computeLevelTables();
+	}
+
+	/**
+	 * Gets the level property used by cauldrons with the given maximum fluid level.
+	 *
+	 * @param maxLevel the maximum fluid level, from 2 to 15
+	 */
+	public static IntProperty getLevelProperty(int maxLevel) {
+		return LEVEL_PROPERTIES[maxLevel];
+	}
+
+	@Override
+	public IntProperty getLevelProperty() {
+		if (levelProperty == null) {
+			// Needed while the superclass constructor is still running, so the max level is read from the settings
+			maxLevel = ((LevelSettings) settings).maxLevel;
+			levelProperty = LEVEL_PROPERTIES[maxLevel];
+		}
+
+		return levelProperty;
+	}
+
+	@Override
+	public int getMaxLevel() {
+		if (levelProperty == null) getLevelProperty();
+		return maxLevel;
+	}
+
+	/**
+	 * A copy of a cauldron's settings that also carries its maximum fluid level, which is needed before the cauldron's own fields are assigned.
+	 */
+	private static final class LevelSettings extends FabricBlockSettings {
+		private final int maxLevel;
+
+		private LevelSettings(Settings settings, int maxLevel) {
+			super(settings);
+
+			if (maxLevel < MIN_LEVELS || maxLevel > MAX_LEVELS) {
+				throw new IllegalArgumentException("Cauldron max level must be between " + MIN_LEVELS + " and " + MAX_LEVELS + ", got " + maxLevel);
+			}
+
+			this.maxLevel = maxLevel;
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.shnupbups.cauldronlib.block.entity;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleVariantStorage;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.network.Packet;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
+import net.minecraft.util.math.BlockPos;
+
+import com.shnupbups.cauldronlib.block.HighResolutionCauldronBlock;
+import com.shnupbups.cauldronlib.fluid.CauldronFluid;
+import com.shnupbups.cauldronlib.fluid.CauldronFluidRegistry;
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+import com.shnupbups.cauldronlib.world.CauldronUpdateBatch;
+
+/**
+ * Holds the exact fluid amount and variant of a {@link HighResolutionCauldronBlock}.
+ *
+ * <p>Only the variant is sent to clients, and only when it changes. Clients see the amount through the visible level in the block state.
+ * The variant is only saved if it differs from the fluid registered for the cauldron block, so most cauldrons save a single long.
+ *
+ * <p>If the visible level is changed without going through this block entity, for example by {@link com.shnupbups.cauldronlib.CauldronLib#setFluidLevel},
+ * the exact amount is reset to match the new level the next time it is read.
+ */
+public class HighResolutionCauldronBlockEntity extends BlockEntity {
+	private static final String AMOUNT_KEY = "Amount";
+	private static final String VARIANT_KEY = "Variant";
+
+	private final Storage storage = new Storage();
+
+	/**
+	 * The variant clients were last sent, so they are only sent it again when it changes.
+	 */
+	private FluidVariant syncedVariant = FluidVariant.blank();
+
+	public HighResolutionCauldronBlockEntity(BlockPos pos, BlockState state) {
+		super(((HighResolutionCauldronBlock) state.getBlock()).getBlockEntityType(), pos, state);
+	}
+
+	private HighResolutionCauldronBlock getCauldron() {
+		return (HighResolutionCauldronBlock) getCachedState().getBlock();
+	}
+
+	private FluidVariant getDefaultVariant() {
+		CauldronFluid cauldronFluid = CauldronFluidRegistry.getByCauldron(getCachedState().getBlock());
+		return cauldronFluid != null && cauldronFluid.fluid() != null ? FluidVariant.of(cauldronFluid.fluid()) : FluidVariant.blank();
+	}
+
+	/**
+	 * Resets the exact amount if the visible level no longer matches it.
+	 */
+	private void reconcile() {
+		int level = CauldronStateTable.getFluidLevel(CauldronStateTable.get(getCachedState()));
+		HighResolutionCauldronBlock cauldron = getCauldron();
+
+		if (cauldron.getLevelForAmount(storage.amount) != level) storage.amount = cauldron.getAmountForLevel(level);
+		if (storage.variant.isBlank() && storage.amount > 0) storage.variant = getDefaultVariant();
+	}
+
+	/**
+	 * Gets the variant of the fluid in this cauldron.
+	 */
+	public FluidVariant getVariant() {
+		reconcile();
+		return storage.variant;
+	}
+
+	/**
+	 * Gets the exact amount of fluid in this cauldron, in droplets.
+	 */
+	public long getAmount() {
+		reconcile();
+		return storage.amount;
+	}
+
+	/**
+	 * Sets the fluid in this cauldron, changing the visible level if needed.
+	 *
+	 * <p>Setting the amount to 0 turns this cauldron into an empty cauldron, removing this block entity.
+	 *
+	 * @param variant the variant of the fluid
+	 * @param amount  the exact amount of fluid, in droplets, from 0 to the cauldron's capacity
+	 */
+	public void setFluid(FluidVariant variant, long amount) {
+		if (amount < 0 || amount > getCauldron().getCapacity()) throw new IllegalArgumentException("Amount must be between 0 and " + getCauldron().getCapacity() + ", got " + amount);
+
+		storage.variant = amount == 0 ? FluidVariant.blank() : variant;
+		storage.amount = amount;
+		onFluidChanged();
+	}
+
+	/**
+	 * Pushes a change to the fluid out to the block state and clients.
+	 *
+	 * <p>Only a change to the visible level or the variant reaches clients. Any other change is only saved.
+	 */
+	private void onFluidChanged() {
+		if (world == null) return;
+
+		BlockState newState = CauldronStateTable.getStateForLevel(getCachedState(), getCauldron().getLevelForAmount(storage.amount));
+		if (newState != null && newState != getCachedState()) {
+			CauldronUpdateBatch.setBlockState(world, pos, newState);
+			if (storage.amount == 0) return;
+		}
+
+		markDirty();
+
+		if (!world.isClient && !syncedVariant.equals(storage.variant)) {
+			syncedVariant = storage.variant;
+			world.updateListeners(pos, getCachedState(), getCachedState(), Block.NOTIFY_LISTENERS);
+		}
+	}
+
+	/**
+	 * Gets this cauldron's fluid storage, for use with the Fabric Transfer API.
+	 */
+	public SingleVariantStorage<FluidVariant> getStorage() {
+		reconcile();
+		return storage;
+	}
+
+	@Override
+	public void readNbt(NbtCompound nbt) {
+		super.readNbt(nbt);
+		if (nbt.contains(AMOUNT_KEY, NbtElement.LONG_TYPE)) storage.amount = nbt.getLong(AMOUNT_KEY);
+		storage.variant = nbt.contains(VARIANT_KEY, NbtElement.COMPOUND_TYPE) ? FluidVariant.fromNbt(nbt.getCompound(VARIANT_KEY)) : getDefaultVariant();
+		syncedVariant = storage.variant;
+	}
+
+	@Override
+	protected void writeNbt(NbtCompound nbt) {
+		super.writeNbt(nbt);
+		nbt.putLong(AMOUNT_KEY, storage.amount);
+		writeVariant(nbt);
+	}
+
+	private void writeVariant(NbtCompound nbt) {
+		if (!storage.variant.isBlank() && !storage.variant.equals(getDefaultVariant())) nbt.put(VARIANT_KEY, storage.variant.toNbt());
+	}
+
+	@Override
+	public NbtCompound toInitialChunkDataNbt() {
+		NbtCompound nbt = new NbtCompound();
+		writeVariant(nbt);
+		return nbt;
+	}
+
+	@Override
+	@Nullable
+	public Packet<ClientPlayPacketListener> toUpdatePacket() {
+		return BlockEntityUpdateS2CPacket.create(this);
+	}
+
+	private class Storage extends SingleVariantStorage<FluidVariant> {
+		@Override
+		protected FluidVariant getBlankVariant() {
+			return FluidVariant.blank();
+		}
+
+		@Override
+		protected long getCapacity(FluidVariant variant) {
+			return getCauldron().getCapacity();
+		}
+
+		@Override
+		protected boolean canInsert(FluidVariant variant) {
+			FluidVariant defaultVariant = getDefaultVariant();
+			return !defaultVariant.isBlank() && variant.isOf(defaultVariant.getFluid());
+		}
+
+		@Override
+		protected void onFinalCommit() {
+			if (amount == 0) variant = FluidVariant.blank();
+			onFluidChanged();
+		}
+	}
+}
@@ -0,0 +1,239 @@
+package com.shnupbups.cauldronlib.client;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.mojang.datafixers.util.Pair;
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.fabricmc.fabric.api.client.model.ModelProviderContext;
+import net.fabricmc.fabric.api.client.model.ModelProviderException;
+import net.fabricmc.fabric.api.client.model.ModelResourceProvider;
+import net.fabricmc.fabric.api.client.model.ModelVariantProvider;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.block.BlockModels;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.ModelBakeSettings;
+import net.minecraft.client.render.model.ModelLoader;
+import net.minecraft.client.render.model.UnbakedModel;
+import net.minecraft.client.render.model.json.JsonUnbakedModel;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.util.ModelIdentifier;
+import net.minecraft.client.util.SpriteIdentifier;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+import net.minecraft.util.math.AffineTransformation;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+
+/**
+ * Generates cauldron level models at runtime from the single {@code cauldronlib:block/template_cauldron_level} template.
+ *
+ * <p>Template models for any fraction of a full cauldron are available as {@code cauldronlib:block/template_cauldron_level/<numerator>_<denominator>},
+ * with the fraction always reduced, so two cauldrons filled to the same height share one template whatever their maximum level.
+ *
+ * <p>Blocks registered with {@link #register(Block, Identifier)} don't need blockstate or model files at all. Their models are generated
+ * from their fluid levels, and blocks showing the same fraction with the same content texture share a single baked model and its quads.
+ * Different fluids can share everything by using the same texture and a color provider for the {@code 0} tint index.
+ *
+ * <p>A new generator is created for every resource reload, so generated and baked models are cached for exactly that long.
+ */
+public class CauldronModelGenerator implements ModelResourceProvider, ModelVariantProvider {
+	public static final Identifier TEMPLATE = new Identifier("cauldronlib", "block/template_cauldron_level");
+	private static final String GENERATED_PREFIX = TEMPLATE.getPath() + "/";
+	private static final String CONTENT_TEXTURE = "#content";
+
+	private static final Map<Block, Identifier> CONTENT_TEXTURES = new Reference2ObjectOpenHashMap<>();
+
+	private final ResourceManager manager;
+	private final Map<Identifier, String> generatedJson = new HashMap<>();
+	private final Map<BakeKey, BakedModel> bakedModels = new HashMap<>();
+	@Nullable
+	private JsonObject template;
+
+	public CauldronModelGenerator(ResourceManager manager) {
+		this.manager = manager;
+	}
+
+	/**
+	 * Registers a cauldron block to have its models generated, using the given texture for its contents.
+	 *
+	 * <p>Every block state of the block must be a cauldron with a fluid level of at least 1.
+	 *
+	 * @param block          the cauldron block
+	 * @param contentTexture the texture of the cauldron's contents, for example {@code minecraft:block/water_still}
+	 */
+	public static synchronized void register(Block block, Identifier contentTexture) {
+		CONTENT_TEXTURES.put(block, contentTexture);
+	}
+
+	@Nullable
+	private static synchronized Identifier getContentTexture(Block block) {
+		return CONTENT_TEXTURES.get(block);
+	}
+
+	/**
+	 * Gets the id of the template model for a fluid level.
+	 *
+	 * @param level    the fluid level, at least 1
+	 * @param maxLevel the maximum fluid level
+	 */
+	public static Identifier getTemplateId(int level, int maxLevel) {
+		if (level < 1 || level > maxLevel) throw new IllegalArgumentException("Level " + level + " is not between 1 and " + maxLevel);
+
+		int gcd = gcd(level, maxLevel);
+		return new Identifier(TEMPLATE.getNamespace(), GENERATED_PREFIX + (level / gcd) + "_" + (maxLevel / gcd));
+	}
+
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			int t = a % b;
+			a = b;
+			b = t;
+		}
+
+		return a;
+	}
+
+	@Override
+	@Nullable
+	public UnbakedModel loadModelResource(Identifier resourceId, ModelProviderContext context) throws ModelProviderException {
+		if (!resourceId.getNamespace().equals(TEMPLATE.getNamespace()) || !resourceId.getPath().startsWith(GENERATED_PREFIX)) return null;
+
+		String fraction = resourceId.getPath().substring(GENERATED_PREFIX.length());
+		int separator = fraction.indexOf('_');
+
+		try {
+			int numerator = Integer.parseInt(fraction.substring(0, separator));
+			int denominator = Integer.parseInt(fraction.substring(separator + 1));
+			if (!getTemplateId(numerator, denominator).equals(resourceId)) return null;
+
+			return JsonUnbakedModel.deserialize(generatedJson.computeIfAbsent(resourceId, (id) -> generate(numerator, denominator)));
+		} catch (RuntimeException e) {
+			throw new ModelProviderException("Couldn't generate cauldron model " + resourceId, e);
+		}
+	}
+
+	@Override
+	@Nullable
+	public UnbakedModel loadModelVariant(ModelIdentifier modelId, ModelProviderContext context) {
+		if (modelId.getVariant().equals("inventory")) return null;
+
+		Block block = Registry.BLOCK.get(new Identifier(modelId.getNamespace(), modelId.getPath()));
+		Identifier texture = getContentTexture(block);
+		if (texture == null) return null;
+
+		for (BlockState state : block.getStateManager().getStates()) {
+			if (!BlockModels.getModelId(state).equals(modelId)) continue;
+
+			int packed = CauldronStateTable.get(state);
+			int level = CauldronStateTable.getFluidLevel(packed);
+			if (level < 1) break;
+
+			return new SharedModel(getTemplateId(level, CauldronStateTable.getMaxFluidLevel(packed)), texture);
+		}
+
+		CauldronLib.LOGGER.warn("Can't generate a model for {}, as it isn't a cauldron with fluid in it", modelId);
+		return null;
+	}
+
+	/**
+	 * Generates the JSON of a template model, filled to the given fraction of a full cauldron.
+	 */
+	private String generate(int numerator, int denominator) {
+		JsonObject json = getTemplate().deepCopy();
+		float height = 6.0F + 9.0F * numerator / denominator;
+
+		for (JsonElement element : JsonHelper.getArray(json, "elements")) {
+			JsonObject object = element.getAsJsonObject();
+			if (!hasContentFace(object)) continue;
+
+			JsonArray to = JsonHelper.getArray(object, "to");
+			to.set(1, new JsonPrimitive(height));
+		}
+
+		return json.toString();
+	}
+
+	private static boolean hasContentFace(JsonObject element) {
+		for (Map.Entry<String, JsonElement> face : JsonHelper.getObject(element, "faces").entrySet()) {
+			if (CONTENT_TEXTURE.equals(JsonHelper.getString(face.getValue().getAsJsonObject(), "texture", null))) return true;
+		}
+
+		return false;
+	}
+
+	private JsonObject getTemplate() {
+		if (template == null) {
+			Identifier location = new Identifier(TEMPLATE.getNamespace(), "models/" + TEMPLATE.getPath() + ".json");
+
+			try (Resource resource = manager.getResource(location); Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+				template = JsonHelper.deserialize(reader);
+			} catch (Exception e) {
+				throw new IllegalStateException("Couldn't read cauldron model template " + location, e);
+			}
+		}
+
+		return template;
+	}
+
+	/**
+	 * A generated model that shares its baked model with every other generated model using the same template, texture and rotation.
+	 */
+	private final class SharedModel implements UnbakedModel {
+		private final Identifier template;
+		private final Identifier texture;
+		private final JsonUnbakedModel model;
+
+		private SharedModel(Identifier template, Identifier texture) {
+			this.template = template;
+			this.texture = texture;
+			this.model = JsonUnbakedModel.deserialize("{\"parent\":\"" + template + "\",\"textures\":{\"content\":\"" + texture + "\"}}");
+		}
+
+		@Override
+		public Collection<Identifier> getModelDependencies() {
+			return model.getModelDependencies();
+		}
+
+		@Override
+		public Collection<SpriteIdentifier> getTextureDependencies(Function<Identifier, UnbakedModel> unbakedModelGetter, Set<Pair<String, String>> unresolvedTextureReferences) {
+			return model.getTextureDependencies(unbakedModelGetter, unresolvedTextureReferences);
+		}
+
+		@Override
+		@Nullable
+		public BakedModel bake(ModelLoader loader, Function<SpriteIdentifier, Sprite> textureGetter, ModelBakeSettings rotationContainer, Identifier modelId) {
+			BakeKey key = new BakeKey(template, texture, rotationContainer.getRotation(), rotationContainer.isUvLocked());
+			BakedModel baked = bakedModels.get(key);
+
+			if (baked == null) {
+				baked = model.bake(loader, textureGetter, rotationContainer, modelId);
+				bakedModels.put(key, baked);
+			}
+
+			return baked;
+		}
+	}
+
+	private record BakeKey(Identifier template, Identifier texture, AffineTransformation rotation, boolean uvLocked) {
+	}
+}
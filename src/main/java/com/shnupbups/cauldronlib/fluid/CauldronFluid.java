@@ -0,0 +1,38 @@
+package com.shnupbups.cauldronlib.fluid;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.Block;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.sound.SoundEvents;
+
+/**
+ * Ties together something a cauldron can hold, the cauldron block that holds it, and the items it can be carried in.
+ *
+ * <p>Not everything a cauldron holds is a fluid, vanilla powder snow being one example, so the fluid is optional.
+ *
+ * @param fluid            the fluid held, if any
+ * @param cauldron         the cauldron block that holds it
+ * @param bucket           the bucket it can be carried in, if any
+ * @param bottle           the bottle it can be carried in, if any
+ * @param bucketFillSound  the sound played when a bucket is filled from the cauldron
+ * @param bucketEmptySound the sound played when a bucket is emptied into the cauldron
+ * @param bottleEmptySound the sound played when a bottle is emptied into the cauldron
+ * @see CauldronFluidRegistry
+ */
+public record CauldronFluid(@Nullable Fluid fluid, Block cauldron, @Nullable Item bucket, @Nullable Item bottle,
+							SoundEvent bucketFillSound, SoundEvent bucketEmptySound, SoundEvent bottleEmptySound) {
+	/**
+	 * Creates a cauldron fluid with the default bucket and bottle sounds.
+	 *
+	 * @param fluid    the fluid held, if any
+	 * @param cauldron the cauldron block that holds it
+	 * @param bucket   the bucket it can be carried in, if any
+	 * @param bottle   the bottle it can be carried in, if any
+	 */
+	public CauldronFluid(@Nullable Fluid fluid, Block cauldron, @Nullable Item bucket, @Nullable Item bottle) {
+		this(fluid, cauldron, bucket, bottle, SoundEvents.ITEM_BUCKET_FILL, SoundEvents.ITEM_BUCKET_EMPTY, SoundEvents.ITEM_BOTTLE_EMPTY);
+	}
+}
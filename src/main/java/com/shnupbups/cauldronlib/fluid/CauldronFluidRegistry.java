@@ -0,0 +1,133 @@
+package com.shnupbups.cauldronlib.fluid;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import net.minecraft.sound.SoundEvents;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+/**
+ * Keeps track of registered {@link CauldronFluid}s, with constant-time lookups by fluid, bucket, bottle and cauldron block.
+ *
+ * <p>Vanilla water, lava and powder snow are registered by default. Water bottles are potions, so vanilla water has no bottle here.
+ */
+public final class CauldronFluidRegistry {
+	private static volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+
+	static {
+		add(new CauldronFluid(Fluids.WATER, Blocks.WATER_CAULDRON, Items.WATER_BUCKET, null));
+		add(new CauldronFluid(Fluids.LAVA, Blocks.LAVA_CAULDRON, Items.LAVA_BUCKET, null, SoundEvents.ITEM_BUCKET_FILL_LAVA, SoundEvents.ITEM_BUCKET_EMPTY_LAVA, SoundEvents.ITEM_BOTTLE_EMPTY));
+		add(new CauldronFluid(null, Blocks.POWDER_SNOW_CAULDRON, Items.POWDER_SNOW_BUCKET, null, SoundEvents.ITEM_BUCKET_FILL_POWDER_SNOW, SoundEvents.ITEM_BUCKET_EMPTY_POWDER_SNOW, SoundEvents.ITEM_BOTTLE_EMPTY));
+	}
+
+	private CauldronFluidRegistry() {
+	}
+
+	/**
+	 * Registers a cauldron fluid without any of its behaviors.
+	 *
+	 * <p>Mods should use {@link CauldronLib#registerCauldronFluid(CauldronFluid)} instead, which also registers the behaviors that go with it.
+	 *
+	 * <p>Lookups read an immutable copy of the registry, so registering copies every map. That is fine for the handful of
+	 * fluids registered during initialization, and keeps lookups from ever having to lock.
+	 *
+	 * @param cauldronFluid the cauldron fluid to register
+	 * @throws IllegalArgumentException if its cauldron, fluid, bucket or bottle is already used by another cauldron fluid
+	 * @throws IllegalStateException    if CauldronLib has been frozen
+	 */
+	public static synchronized void register(CauldronFluid cauldronFluid) {
+		if (CauldronLib.isFrozen()) throw new IllegalStateException("Cannot register cauldron fluids after CauldronLib has been frozen");
+		add(cauldronFluid);
+	}
+
+	private static void add(CauldronFluid cauldronFluid) {
+		Snapshot current = snapshot;
+		checkUnused(current.byCauldron(), cauldronFluid.cauldron(), "cauldron");
+		checkUnused(current.byFluid(), cauldronFluid.fluid(), "fluid");
+		checkUnused(current.byBucket(), cauldronFluid.bucket(), "bucket");
+		checkUnused(current.byBottle(), cauldronFluid.bottle(), "bottle");
+
+		Map<Block, CauldronFluid> byCauldron = new Reference2ObjectLinkedOpenHashMap<>(current.byCauldron());
+		Map<Fluid, CauldronFluid> byFluid = new Reference2ObjectOpenHashMap<>(current.byFluid());
+		Map<Item, CauldronFluid> byBucket = new Reference2ObjectOpenHashMap<>(current.byBucket());
+		Map<Item, CauldronFluid> byBottle = new Reference2ObjectOpenHashMap<>(current.byBottle());
+
+		byCauldron.put(cauldronFluid.cauldron(), cauldronFluid);
+		if (cauldronFluid.fluid() != null) byFluid.put(cauldronFluid.fluid(), cauldronFluid);
+		if (cauldronFluid.bucket() != null) byBucket.put(cauldronFluid.bucket(), cauldronFluid);
+		if (cauldronFluid.bottle() != null) byBottle.put(cauldronFluid.bottle(), cauldronFluid);
+
+		snapshot = new Snapshot(Collections.unmodifiableMap(byCauldron), Collections.unmodifiableMap(byFluid), Collections.unmodifiableMap(byBucket), Collections.unmodifiableMap(byBottle));
+	}
+
+	private static <K> void checkUnused(Map<K, CauldronFluid> map, @Nullable K key, String what) {
+		if (key != null && map.containsKey(key)) {
+			throw new IllegalArgumentException("The " + what + " " + key + " is already registered to " + map.get(key));
+		}
+	}
+
+	/**
+	 * Gets the cauldron fluid for a fluid, or {@code null} if there is none.
+	 *
+	 * @param fluid the fluid
+	 */
+	@Nullable
+	public static CauldronFluid getByFluid(Fluid fluid) {
+		return snapshot.byFluid().get(fluid);
+	}
+
+	/**
+	 * Gets the cauldron fluid carried in a bucket, or {@code null} if there is none.
+	 *
+	 * @param bucket the bucket
+	 */
+	@Nullable
+	public static CauldronFluid getByBucket(Item bucket) {
+		return snapshot.byBucket().get(bucket);
+	}
+
+	/**
+	 * Gets the cauldron fluid carried in a bottle, or {@code null} if there is none.
+	 *
+	 * @param bottle the bottle
+	 */
+	@Nullable
+	public static CauldronFluid getByBottle(Item bottle) {
+		return snapshot.byBottle().get(bottle);
+	}
+
+	/**
+	 * Gets the cauldron fluid held by a cauldron block, or {@code null} if there is none.
+	 *
+	 * @param cauldron the cauldron block
+	 */
+	@Nullable
+	public static CauldronFluid getByCauldron(Block cauldron) {
+		return snapshot.byCauldron().get(cauldron);
+	}
+
+	/**
+	 * Gets all registered cauldron fluids, in registration order.
+	 *
+	 * <p>The returned collection is unmodifiable, and doesn't change if more cauldron fluids are registered later.
+	 */
+	public static Collection<CauldronFluid> getAll() {
+		return snapshot.byCauldron().values();
+	}
+
+	private record Snapshot(Map<Block, CauldronFluid> byCauldron, Map<Fluid, CauldronFluid> byFluid, Map<Item, CauldronFluid> byBucket, Map<Item, CauldronFluid> byBottle) {
+	}
+}
@@ -0,0 +1,187 @@
+package com.shnupbups.cauldronlib.fluid;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleVariantStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+import com.shnupbups.cauldronlib.world.CauldronUpdateBatch;
+
+/**
+ * Exposes a cauldron known to {@link com.shnupbups.cauldronlib.CauldronLib} as a Fabric Transfer API fluid storage.
+ *
+ * <p>A full cauldron holds one bucket of fluid, split evenly between its fluid levels, and fluid can only be moved a whole level at a time.
+ * Cauldrons whose maximum fluid level doesn't divide a bucket evenly are not exposed.
+ * Which fluid a cauldron holds comes from the {@link CauldronFluidRegistry}.
+ *
+ * <p>Changes are only written to the world once the outermost transaction commits, so simulated and aborted transfers never touch it.
+ * Storages are cached by position for the rest of the tick, so repeated lookups during a transfer share the same pending changes.
+ */
+public class CauldronFluidStorage extends SingleVariantStorage<FluidVariant> {
+	private final World world;
+	private final BlockPos pos;
+	private BlockState state;
+
+	protected CauldronFluidStorage(World world, BlockPos pos, BlockState state) {
+		this.world = world;
+		this.pos = pos.toImmutable();
+		this.state = state;
+
+		Fluid fluid = getFluid(state.getBlock());
+		int level = CauldronStateTable.getFluidLevel(CauldronStateTable.get(state));
+
+		if (fluid != null && level > 0) {
+			this.variant = FluidVariant.of(fluid);
+			this.amount = level * getAmountPerLevel(this.variant);
+		}
+	}
+
+	/**
+	 * Gets the cauldron block that holds a fluid, or {@code null} if there is none.
+	 *
+	 * @param fluid the fluid
+	 */
+	@Nullable
+	public static Block getCauldron(Fluid fluid) {
+		CauldronFluid cauldronFluid = CauldronFluidRegistry.getByFluid(fluid);
+		return cauldronFluid != null ? cauldronFluid.cauldron() : null;
+	}
+
+	/**
+	 * Gets the fluid held by a cauldron block, or {@code null} if there is none.
+	 *
+	 * @param cauldron the cauldron block
+	 */
+	@Nullable
+	public static Fluid getFluid(Block cauldron) {
+		CauldronFluid cauldronFluid = CauldronFluidRegistry.getByCauldron(cauldron);
+		return cauldronFluid != null ? cauldronFluid.fluid() : null;
+	}
+
+	/**
+	 * Finds the fluid storage of a cauldron, or {@code null} if it is not a cauldron that can be exposed as one.
+	 *
+	 * @param world the world the cauldron is in
+	 * @param pos   the position of the cauldron
+	 * @param state the current block state of the cauldron
+	 */
+	@Nullable
+	public static CauldronFluidStorage find(World world, BlockPos pos, BlockState state) {
+		int packed = CauldronStateTable.get(state);
+		if (!CauldronStateTable.isCauldron(packed)) return null;
+
+		int maxLevel = CauldronStateTable.getMaxFluidLevel(packed);
+		if (maxLevel > 0 && (getFluid(state.getBlock()) == null || FluidConstants.BUCKET % maxLevel != 0)) return null;
+
+		Holder holder = (Holder) world;
+		TickCache cache = holder.cauldronlib$getFluidStorageCache();
+
+		if (cache == null) {
+			cache = new TickCache();
+			holder.cauldronlib$setFluidStorageCache(cache);
+		}
+
+		if (cache.tick != world.getTime()) {
+			cache.tick = world.getTime();
+			cache.storages.clear();
+		}
+
+		CauldronFluidStorage storage = cache.storages.get(pos.asLong());
+		if (storage == null || storage.state != state) {
+			storage = new CauldronFluidStorage(world, pos, state);
+			cache.storages.put(pos.asLong(), storage);
+		}
+
+		return storage;
+	}
+
+	private static int getMaxLevel(Block cauldron) {
+		return CauldronStateTable.getMaxFluidLevel(CauldronStateTable.get(cauldron.getDefaultState()));
+	}
+
+	private static long getAmountPerLevel(FluidVariant variant) {
+		Block cauldron = variant.isBlank() ? null : getCauldron(variant.getFluid());
+		if (cauldron == null) return 0;
+
+		int maxLevel = getMaxLevel(cauldron);
+		return maxLevel > 0 && FluidConstants.BUCKET % maxLevel == 0 ? FluidConstants.BUCKET / maxLevel : 0;
+	}
+
+	@Override
+	protected FluidVariant getBlankVariant() {
+		return FluidVariant.blank();
+	}
+
+	@Override
+	protected long getCapacity(FluidVariant variant) {
+		return getAmountPerLevel(variant) > 0 ? FluidConstants.BUCKET : 0;
+	}
+
+	@Override
+	protected boolean canInsert(FluidVariant variant) {
+		if (getAmountPerLevel(variant) == 0) return false;
+		return state.isOf(Blocks.CAULDRON) || state.isOf(getCauldron(variant.getFluid()));
+	}
+
+	@Override
+	public long insert(FluidVariant insertedVariant, long maxAmount, TransactionContext transaction) {
+		long amountPerLevel = getAmountPerLevel(insertedVariant);
+		return amountPerLevel == 0 ? 0 : super.insert(insertedVariant, maxAmount - maxAmount % amountPerLevel, transaction);
+	}
+
+	@Override
+	public long extract(FluidVariant extractedVariant, long maxAmount, TransactionContext transaction) {
+		long amountPerLevel = getAmountPerLevel(extractedVariant);
+		return amountPerLevel == 0 ? 0 : super.extract(extractedVariant, maxAmount - maxAmount % amountPerLevel, transaction);
+	}
+
+	@Override
+	protected void onFinalCommit() {
+		BlockState newState;
+
+		if (amount == 0 || variant.isBlank()) {
+			newState = CauldronStateTable.getStateForLevel(state, 0);
+		} else {
+			int level = (int) (amount / getAmountPerLevel(variant));
+			Block cauldron = getCauldron(variant.getFluid());
+			newState = CauldronStateTable.getStateForLevel(state.isOf(cauldron) ? state : cauldron.getDefaultState(), level);
+		}
+
+		if (newState != null && newState != state && CauldronUpdateBatch.setBlockState(world, pos, newState)) {
+			state = newState;
+		}
+	}
+
+	/**
+	 * The storages found in a world during its current tick.
+	 */
+	public static final class TickCache {
+		private final Long2ObjectOpenHashMap<CauldronFluidStorage> storages = new Long2ObjectOpenHashMap<>();
+		private long tick = Long.MIN_VALUE;
+
+		private TickCache() {
+		}
+	}
+
+	/**
+	 * Implemented by worlds to hold the storages found during their current tick.
+	 */
+	public interface Holder {
+		@Nullable
+		TickCache cauldronlib$getFluidStorageCache();
+
+		void cauldronlib$setFluidStorageCache(TickCache cache);
+	}
+}
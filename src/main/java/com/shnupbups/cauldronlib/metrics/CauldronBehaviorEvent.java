@@ -0,0 +1,30 @@
+package com.shnupbups.cauldronlib.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event recorded around cauldron behaviors created by {@link com.shnupbups.cauldronlib.CauldronLib}'s behavior factories.
+ */
+@Name("cauldronlib.CauldronBehavior")
+@Label("Cauldron Behavior")
+@Description("A cauldron behavior created by CauldronLib being used")
+@Category({"Minecraft", "CauldronLib"})
+@StackTrace(false)
+public class CauldronBehaviorEvent extends Event {
+	@Label("Behavior")
+	public String behavior;
+
+	@Label("Cauldron")
+	public String cauldron;
+
+	@Label("Item")
+	public String item;
+
+	@Label("Result")
+	public String result;
+}
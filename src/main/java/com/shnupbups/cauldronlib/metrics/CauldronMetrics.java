@@ -0,0 +1,182 @@
+package com.shnupbups.cauldronlib.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.EventType;
+
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+
+/**
+ * Counts cauldron fluid level changes and behavior dispatches, and records JFR events for CauldronLib's behaviors.
+ *
+ * <p>Counting is disabled by default, and costs a single field read per call while disabled.
+ * JFR events are only recorded while a JFR recording with them enabled is running.
+ */
+public class CauldronMetrics {
+	private static final EventType BEHAVIOR_EVENT_TYPE = EventType.getEventType(CauldronBehaviorEvent.class);
+
+	private final Map<Block, LevelChangeCounters> levelChanges = new ConcurrentHashMap<>();
+	private final Map<Item, LongAdder> dispatches = new ConcurrentHashMap<>();
+	private volatile boolean enabled;
+
+	/**
+	 * Whether counting is enabled.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables counting. Counts are kept when disabled.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Resets all counts.
+	 */
+	public void reset() {
+		levelChanges.clear();
+		dispatches.clear();
+	}
+
+	/**
+	 * Records an attempt to set the fluid level of a cauldron.
+	 *
+	 * @param state    the block state of the cauldron before the attempt
+	 * @param level    the fluid level that was requested
+	 * @param required whether the cauldron was required to be able to hold the exact amount given
+	 * @param changed  whether any change was made
+	 */
+	public void recordSetFluidLevel(BlockState state, int level, boolean required, boolean changed) {
+		if (!enabled) return;
+
+		LevelChangeCounters counters = levelChanges.computeIfAbsent(state.getBlock(), (block) -> new LevelChangeCounters());
+		counters.calls.increment();
+
+		if (changed) {
+			counters.successes.increment();
+		} else if (required && (level < 0 || level > CauldronStateTable.getMaxFluidLevel(CauldronStateTable.get(state)))) {
+			counters.requiredRejections.increment();
+		} else {
+			counters.noOps.increment();
+		}
+	}
+
+	/**
+	 * Records a cauldron being used with an item.
+	 *
+	 * <p>Called whenever an {@link net.minecraft.block.AbstractCauldronBlock} dispatches to its behavior map, whichever kind of map it has.
+	 * Cauldron blocks that override {@code onUse} without calling the original method are not counted.
+	 *
+	 * @param item the item used on the cauldron
+	 */
+	public void recordDispatch(Item item) {
+		if (!enabled) return;
+		dispatches.computeIfAbsent(item, (i) -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Gets the fluid level change counts for a cauldron block.
+	 *
+	 * @param block the cauldron block
+	 */
+	public LevelChangeStats getLevelChangeStats(Block block) {
+		LevelChangeCounters counters = levelChanges.get(block);
+		return counters == null ? LevelChangeStats.EMPTY : counters.toStats();
+	}
+
+	/**
+	 * Gets the fluid level change counts of every cauldron block that has had any.
+	 */
+	public Map<Block, LevelChangeStats> getLevelChangeStats() {
+		Map<Block, LevelChangeStats> stats = new LinkedHashMap<>();
+		levelChanges.forEach((block, counters) -> stats.put(block, counters.toStats()));
+		return stats;
+	}
+
+	/**
+	 * Gets how many times a cauldron has been used with an item.
+	 *
+	 * @param item the item
+	 */
+	public long getDispatchCount(Item item) {
+		LongAdder count = dispatches.get(item);
+		return count == null ? 0 : count.sum();
+	}
+
+	/**
+	 * Gets the dispatch counts of every item that has been used on a cauldron.
+	 */
+	public Object2LongMap<Item> getDispatchCounts() {
+		Object2LongLinkedOpenHashMap<Item> counts = new Object2LongLinkedOpenHashMap<>();
+		dispatches.forEach((item, count) -> counts.put(item, count.sum()));
+		return counts;
+	}
+
+	/**
+	 * Wraps a cauldron behavior so that a {@link CauldronBehaviorEvent} is recorded around every use.
+	 *
+	 * @param name     the name of the behavior, recorded in the event
+	 * @param behavior the behavior to wrap
+	 */
+	public static CauldronBehavior instrument(String name, CauldronBehavior behavior) {
+		return (state, world, pos, player, hand, stack) -> {
+			// Checked before creating the event, so nothing is allocated unless a recording wants it
+			if (!BEHAVIOR_EVENT_TYPE.isEnabled()) return behavior.interact(state, world, pos, player, hand, stack);
+
+			CauldronBehaviorEvent event = new CauldronBehaviorEvent();
+			Item item = stack.getItem();
+			event.begin();
+			ActionResult result = behavior.interact(state, world, pos, player, hand, stack);
+			event.end();
+
+			if (event.shouldCommit()) {
+				event.behavior = name;
+				event.cauldron = Registry.BLOCK.getId(state.getBlock()).toString();
+				event.item = Registry.ITEM.getId(item).toString();
+				event.result = result.name();
+				event.commit();
+			}
+
+			return result;
+		};
+	}
+
+	/**
+	 * Counts of attempts to set the fluid level of a cauldron block.
+	 *
+	 * @param calls              the total number of attempts
+	 * @param requiredRejections attempts rejected because the cauldron couldn't hold the exact amount required
+	 * @param noOps              attempts that made no change for any other reason
+	 * @param successes          attempts that changed the fluid level
+	 */
+	public record LevelChangeStats(long calls, long requiredRejections, long noOps, long successes) {
+		public static final LevelChangeStats EMPTY = new LevelChangeStats(0, 0, 0, 0);
+	}
+
+	private static final class LevelChangeCounters {
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder requiredRejections = new LongAdder();
+		private final LongAdder noOps = new LongAdder();
+		private final LongAdder successes = new LongAdder();
+
+		private LevelChangeStats toStats() {
+			return new LevelChangeStats(calls.sum(), requiredRejections.sum(), noOps.sum(), successes.sum());
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.shnupbups.cauldronlib.metrics;
+
+import java.util.Comparator;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+import static net.minecraft.server.command.CommandManager.literal;
+
+/**
+ * The {@code /cauldronlib metrics} command, for enabling, resetting and viewing {@link CauldronMetrics}.
+ */
+public final class CauldronMetricsCommand {
+	private static final int SHOWN_ITEMS = 10;
+
+	private CauldronMetricsCommand() {
+	}
+
+	public static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+		dispatcher.register(literal("cauldronlib")
+				.requires((source) -> source.hasPermissionLevel(2))
+				.then(literal("metrics")
+						.executes(CauldronMetricsCommand::show)
+						.then(literal("enable").executes((context) -> setEnabled(context, true)))
+						.then(literal("disable").executes((context) -> setEnabled(context, false)))
+						.then(literal("reset").executes(CauldronMetricsCommand::reset))));
+	}
+
+	private static int setEnabled(CommandContext<ServerCommandSource> context, boolean enabled) {
+		CauldronLib.getMetrics().setEnabled(enabled);
+		context.getSource().sendFeedback(new LiteralText("Cauldron metrics " + (enabled ? "enabled" : "disabled")), true);
+		return 1;
+	}
+
+	private static int reset(CommandContext<ServerCommandSource> context) {
+		CauldronLib.getMetrics().reset();
+		context.getSource().sendFeedback(new LiteralText("Cauldron metrics reset"), true);
+		return 1;
+	}
+
+	private static int show(CommandContext<ServerCommandSource> context) {
+		CauldronMetrics metrics = CauldronLib.getMetrics();
+		ServerCommandSource source = context.getSource();
+
+		source.sendFeedback(new LiteralText("Cauldron metrics (" + (metrics.isEnabled() ? "enabled" : "disabled") + "):"), false);
+		metrics.getLevelChangeStats().forEach((block, stats) -> source.sendFeedback(new LiteralText(String.format(
+				"  %s: %d level changes, %d succeeded, %d rejected, %d no-ops",
+				Registry.BLOCK.getId(block), stats.calls(), stats.successes(), stats.requiredRejections(), stats.noOps()
+		)), false));
+
+		metrics.getDispatchCounts().object2LongEntrySet().stream()
+				.sorted(Comparator.comparingLong((entry) -> -entry.getLongValue()))
+				.limit(SHOWN_ITEMS)
+				.forEach((entry) -> source.sendFeedback(new LiteralText(String.format(
+						"  %s: used %d times", Registry.ITEM.getId(entry.getKey()), entry.getLongValue()
+				)), false));
+
+		return 1;
+	}
+}
@@ -0,0 +1,16 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import java.util.Map;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import net.minecraft.block.AbstractCauldronBlock;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+
+@Mixin(AbstractCauldronBlock.class)
+public interface AbstractCauldronBlockAccessor {
+	@Accessor("behaviorMap")
+	Map<Item, CauldronBehavior> cauldronlib$getBehaviorMap();
+}
@@ -0,0 +1,25 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.block.AbstractCauldronBlock;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+@Mixin(AbstractCauldronBlock.class)
+public abstract class AbstractCauldronBlockMixin {
+	@Inject(method = "onUse", at = @At("HEAD"))
+	private void cauldronlib$recordDispatch(BlockState state, World world, BlockPos pos, PlayerEntity player, Hand hand, BlockHitResult hit, CallbackInfoReturnable<ActionResult> cir) {
+		CauldronLib.getMetrics().recordDispatch(player.getStackInHand(hand).getItem());
+	}
+}
@@ -0,0 +1,28 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.CauldronBlock;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import com.shnupbups.cauldronlib.world.CauldronDripstoneFill;
+
+@Mixin(CauldronBlock.class)
+public abstract class CauldronBlockMixin {
+	@Inject(method = "canBeFilledByDripstone", at = @At("HEAD"), cancellable = true)
+	private void cauldronlib$canBeFilledByDripstoneRule(Fluid fluid, CallbackInfoReturnable<Boolean> cir) {
+		if (CauldronDripstoneFill.getRule(fluid) != null) cir.setReturnValue(true);
+	}
+
+	@Inject(method = "fillFromDripstone", at = @At("HEAD"), cancellable = true)
+	private void cauldronlib$fillFromDripstoneRule(BlockState state, World world, BlockPos pos, Fluid fluid, CallbackInfo ci) {
+		if (CauldronDripstoneFill.fill(state, world, pos, fluid)) ci.cancel();
+	}
+}
@@ -0,0 +1,37 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.ChunkSerializer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.ReadOnlyChunk;
+import net.minecraft.world.poi.PointOfInterestStorage;
+
+import com.shnupbups.cauldronlib.world.CauldronChunkIndex;
+
+@Mixin(ChunkSerializer.class)
+public abstract class ChunkSerializerMixin {
+	@Inject(method = "serialize", at = @At("RETURN"))
+	private static void cauldronlib$writeCauldronIndex(ServerWorld world, Chunk chunk, CallbackInfoReturnable<NbtCompound> cir) {
+		if (chunk instanceof CauldronChunkIndex.Holder holder) {
+			CauldronChunkIndex index = holder.cauldronlib$getCauldronIndex();
+			if (index != null) index.writeNbt(cir.getReturnValue());
+		}
+	}
+
+	@Inject(method = "deserialize", at = @At("RETURN"))
+	private static void cauldronlib$readCauldronIndex(ServerWorld world, PointOfInterestStorage poiStorage, ChunkPos chunkPos, NbtCompound nbt, CallbackInfoReturnable<ProtoChunk> cir) {
+		if (cir.getReturnValue() instanceof ReadOnlyChunk readOnlyChunk) {
+			// Outdated or missing indexes are left unset, so the chunk is scanned when first queried
+			CauldronChunkIndex index = CauldronChunkIndex.readNbt(nbt);
+			if (index != null) ((CauldronChunkIndex.Holder) readOnlyChunk.getWrappedChunk()).cauldronlib$setCauldronIndex(index);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.PointedDripstoneBlock;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldAccess;
+import net.minecraft.world.WorldEvents;
+import net.minecraft.world.WorldView;
+
+import com.shnupbups.cauldronlib.world.CauldronDripstoneFill;
+import com.shnupbups.cauldronlib.world.DripstoneCauldronCache;
+
+@Mixin(PointedDripstoneBlock.class)
+public abstract class PointedDripstoneBlockMixin {
+	@Shadow
+	private static boolean isHeldByPointedDripstone(BlockState state, WorldView world, BlockPos pos) {
+		throw new AssertionError();
+	}
+
+	@Shadow
+	private static Fluid getDripFluid(World world, BlockPos pos) {
+		throw new AssertionError();
+	}
+
+	@Shadow
+	@Nullable
+	private static BlockPos getTipPos(BlockState state, WorldAccess world, BlockPos pos, int range, boolean allowMerged) {
+		throw new AssertionError();
+	}
+
+	@Shadow
+	private static boolean canDripThrough(BlockView world, BlockPos pos, BlockState state) {
+		throw new AssertionError();
+	}
+
+	@Shadow
+	@Nullable
+	private static BlockPos getCauldronPos(World world, BlockPos pos, Fluid fluid) {
+		throw new AssertionError();
+	}
+
+	@Inject(method = "dripTick", at = @At("HEAD"), cancellable = true)
+	private static void cauldronlib$dripModdedFluid(BlockState state, ServerWorld world, BlockPos pos, float dripChance, CallbackInfo ci) {
+		if (!CauldronDripstoneFill.hasModdedRules() || !isHeldByPointedDripstone(state, world, pos)) return;
+
+		Fluid fluid = getDripFluid(world, pos);
+		if (CauldronDripstoneFill.isVanillaFluid(fluid)) return;
+
+		CauldronDripstoneFill.DripstoneFillRule rule = CauldronDripstoneFill.getRule(fluid);
+		if (rule == null) return;
+		ci.cancel();
+
+		if (dripChance >= rule.chance()) return;
+
+		BlockPos tip = getTipPos(state, world, pos, DripstoneCauldronCache.RANGE, false);
+		if (tip == null) return;
+
+		BlockPos cauldronPos = getCauldronPos(world, tip, fluid);
+		if (cauldronPos == null) return;
+
+		world.syncWorldEvent(WorldEvents.POINTED_DRIPSTONE_DRIPS, tip, 0);
+		world.createAndScheduleBlockTick(cauldronPos, world.getBlockState(cauldronPos).getBlock(), 50 + tip.getY() - cauldronPos.getY());
+	}
+
+	@Inject(method = "getCauldronPos", at = @At("HEAD"), cancellable = true)
+	private static void cauldronlib$getCachedCauldronPos(World world, BlockPos pos, Fluid fluid, CallbackInfoReturnable<BlockPos> cir) {
+		cir.setReturnValue(DripstoneCauldronCache.find(world, pos, fluid, (searchPos, searchState) -> canDripThrough(world, searchPos, searchState)));
+	}
+}
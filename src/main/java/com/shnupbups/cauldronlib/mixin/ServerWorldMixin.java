@@ -0,0 +1,43 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.minecraft.server.world.ServerWorld;
+
+import com.shnupbups.cauldronlib.world.CauldronPrecipitationScheduler;
+import com.shnupbups.cauldronlib.world.CauldronUpdateBatch;
+
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldMixin implements CauldronUpdateBatch.Holder, CauldronPrecipitationScheduler.Holder {
+	@Unique
+	@Nullable
+	private CauldronUpdateBatch.DeferredUpdates cauldronlib$deferredUpdates;
+
+	@Unique
+	@Nullable
+	private CauldronPrecipitationScheduler.WorldState cauldronlib$precipitationState;
+
+	@Override
+	@Nullable
+	public CauldronUpdateBatch.DeferredUpdates cauldronlib$getDeferredUpdates() {
+		return cauldronlib$deferredUpdates;
+	}
+
+	@Override
+	public void cauldronlib$setDeferredUpdates(CauldronUpdateBatch.DeferredUpdates updates) {
+		this.cauldronlib$deferredUpdates = updates;
+	}
+
+	@Override
+	@Nullable
+	public CauldronPrecipitationScheduler.WorldState cauldronlib$getPrecipitationState() {
+		return cauldronlib$precipitationState;
+	}
+
+	@Override
+	public void cauldronlib$setPrecipitationState(CauldronPrecipitationScheduler.WorldState state) {
+		this.cauldronlib$precipitationState = state;
+	}
+}
@@ -0,0 +1,57 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import com.shnupbups.cauldronlib.world.CauldronChunkIndex;
+import com.shnupbups.cauldronlib.world.DripstoneCauldronCache;
+
+@Mixin(WorldChunk.class)
+public abstract class WorldChunkMixin implements CauldronChunkIndex.Holder, DripstoneCauldronCache.Holder {
+	@Unique
+	@Nullable
+	private CauldronChunkIndex cauldronlib$cauldronIndex;
+
+	@Unique
+	@Nullable
+	private DripstoneCauldronCache cauldronlib$dripstoneCache;
+
+	@Inject(method = "setBlockState", at = @At("RETURN"))
+	private void cauldronlib$onBlockStateChanged(BlockPos pos, BlockState state, boolean moved, CallbackInfoReturnable<BlockState> cir) {
+		BlockState previous = cir.getReturnValue();
+		if (previous == null) return;
+
+		if (cauldronlib$cauldronIndex != null) cauldronlib$cauldronIndex.update(pos, previous, state);
+		if (cauldronlib$dripstoneCache != null) cauldronlib$dripstoneCache.onBlockChanged(pos);
+	}
+
+	@Override
+	@Nullable
+	public CauldronChunkIndex cauldronlib$getCauldronIndex() {
+		return cauldronlib$cauldronIndex;
+	}
+
+	@Override
+	public void cauldronlib$setCauldronIndex(@Nullable CauldronChunkIndex index) {
+		this.cauldronlib$cauldronIndex = index;
+	}
+
+	@Override
+	@Nullable
+	public DripstoneCauldronCache cauldronlib$getDripstoneCache() {
+		return cauldronlib$dripstoneCache;
+	}
+
+	@Override
+	public void cauldronlib$setDripstoneCache(DripstoneCauldronCache cache) {
+		this.cauldronlib$dripstoneCache = cache;
+	}
+}
@@ -0,0 +1,27 @@
+package com.shnupbups.cauldronlib.mixin;
+
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.minecraft.world.World;
+
+import com.shnupbups.cauldronlib.fluid.CauldronFluidStorage;
+
+@Mixin(World.class)
+public abstract class WorldMixin implements CauldronFluidStorage.Holder {
+	@Unique
+	@Nullable
+	private CauldronFluidStorage.TickCache cauldronlib$fluidStorageCache;
+
+	@Override
+	@Nullable
+	public CauldronFluidStorage.TickCache cauldronlib$getFluidStorageCache() {
+		return cauldronlib$fluidStorageCache;
+	}
+
+	@Override
+	public void cauldronlib$setFluidStorageCache(CauldronFluidStorage.TickCache cache) {
+		this.cauldronlib$fluidStorageCache = cache;
+	}
+}
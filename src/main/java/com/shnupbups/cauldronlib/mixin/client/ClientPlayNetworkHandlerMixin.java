@@ -0,0 +1,21 @@
+package com.shnupbups.cauldronlib.mixin.client;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.network.packet.s2c.play.SynchronizeTagsS2CPacket;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+
+@Mixin(ClientPlayNetworkHandler.class)
+public abstract class ClientPlayNetworkHandlerMixin {
+	@Inject(method = "onSynchronizeTags", at = @At("TAIL"))
+	private void cauldronlib$onSynchronizeTags(SynchronizeTagsS2CPacket packet, CallbackInfo ci) {
+		// The integrated server compiles behaviors itself, and shares them with this client
+		if (!MinecraftClient.getInstance().isIntegratedServerRunning()) CauldronLib.compileClientBehaviorRules();
+	}
+}
@@ -0,0 +1,104 @@
+package com.shnupbups.cauldronlib.state;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.state.property.IntProperty;
+
+/**
+ * Describes how the fluid level of a cauldron block is stored in its block states.
+ *
+ * <p>Used to let {@link com.shnupbups.cauldronlib.CauldronLib} handle cauldron blocks that don't extend
+ * {@link com.shnupbups.cauldronlib.block.AbstractLeveledCauldronBlock} or {@link com.shnupbups.cauldronlib.block.FullCauldronBlock}.
+ *
+ * @param kind          the kind of cauldron
+ * @param maxLevel      the maximum fluid level of the cauldron
+ * @param levelProperty the block state property holding the fluid level, only present for {@link Kind#LEVELED} cauldrons
+ */
+public record CauldronDescriptor(Kind kind, int maxLevel, @Nullable IntProperty levelProperty) {
+	private static final CauldronDescriptor EMPTY = new CauldronDescriptor(Kind.EMPTY, 0, null);
+	private static final CauldronDescriptor FULL = new CauldronDescriptor(Kind.FULL, 1, null);
+
+	public CauldronDescriptor {
+		if (maxLevel < 0 || maxLevel > CauldronStateTable.MAX_LEVEL) {
+			throw new IllegalArgumentException("Cauldron max level must be between 0 and " + CauldronStateTable.MAX_LEVEL + ", got " + maxLevel);
+		}
+		if ((kind == Kind.LEVELED) != (levelProperty != null)) {
+			throw new IllegalArgumentException("Only leveled cauldrons have a level property");
+		}
+
+		switch (kind) {
+			case EMPTY -> {
+				if (maxLevel != 0) throw new IllegalArgumentException("Empty cauldrons must have a max level of 0, got " + maxLevel);
+			}
+			case FULL -> {
+				if (maxLevel != 1) throw new IllegalArgumentException("Full cauldrons must have a max level of 1, got " + maxLevel);
+			}
+			case LEVELED -> {
+				// Every level must map to a block state, or setting the fluid level would have gaps
+				for (int level = 1; level <= maxLevel; level++) {
+					if (!levelProperty.getValues().contains(level)) {
+						throw new IllegalArgumentException("Level property " + levelProperty.getName() + " has no value " + level + " for max level " + maxLevel);
+					}
+				}
+				for (int value : levelProperty.getValues()) {
+					if (value < 0 || value > maxLevel) {
+						throw new IllegalArgumentException("Level property " + levelProperty.getName() + " has value " + value + " outside of 0 to " + maxLevel);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Describes an empty cauldron, like the vanilla Cauldron.
+	 */
+	public static CauldronDescriptor empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Describes a cauldron that only has a single fluid level, like vanilla Lava Cauldrons.
+	 */
+	public static CauldronDescriptor full() {
+		return FULL;
+	}
+
+	/**
+	 * Describes a cauldron that has multiple fluid levels, like vanilla Water Cauldrons.
+	 *
+	 * @param levelProperty the block state property holding the fluid level
+	 * @param maxLevel      the maximum fluid level of the cauldron
+	 */
+	public static CauldronDescriptor leveled(IntProperty levelProperty, int maxLevel) {
+		return new CauldronDescriptor(Kind.LEVELED, maxLevel, levelProperty);
+	}
+
+	/**
+	 * Gets the fluid level of a block state of the described cauldron.
+	 *
+	 * @param state the block state of the cauldron
+	 */
+	public int getFluidLevel(BlockState state) {
+		return switch (kind) {
+			case EMPTY -> 0;
+			case FULL -> maxLevel;
+			case LEVELED -> state.get(levelProperty);
+		};
+	}
+
+	public enum Kind {
+		/**
+		 * A cauldron with no fluid in it.
+		 */
+		EMPTY,
+		/**
+		 * A cauldron that only has a single fluid level.
+		 */
+		FULL,
+		/**
+		 * A cauldron that has multiple fluid levels, stored in a block state property.
+		 */
+		LEVELED
+	}
+}
@@ -0,0 +1,285 @@
+package com.shnupbups.cauldronlib.state;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.LeveledCauldronBlock;
+import net.minecraft.state.property.IntProperty;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.registry.Registry;
+
+import com.shnupbups.cauldronlib.block.AbstractLeveledCauldronBlock;
+import com.shnupbups.cauldronlib.block.FullCauldronBlock;
+
+/**
+ * A lazily built table of the fluid level, maximum fluid level and kind of every cauldron block state,
+ * indexed by block state raw id.
+ *
+ * <p>Each entry is packed into a single {@code int}: the fluid level in the lowest 8 bits, the maximum fluid level in the next 8,
+ * and the {@linkplain CauldronDescriptor.Kind kind} above that. An entry of {@code 0} means the block state is not a known cauldron.
+ *
+ * <p>Alongside each entry is a transition table, mapping each fluid level to the block state the cauldron becomes at that level.
+ */
+public final class CauldronStateTable {
+	/**
+	 * The highest maximum fluid level a cauldron can have.
+	 */
+	public static final int MAX_LEVEL = 0xFF;
+
+	private static final int LEVEL_BITS = 8;
+	private static final int LEVEL_MASK = 0xFF;
+	private static final CauldronDescriptor.Kind[] KINDS = CauldronDescriptor.Kind.values();
+
+	private static final Reference2ObjectOpenHashMap<Block, CauldronDescriptor> DESCRIPTORS = new Reference2ObjectOpenHashMap<>();
+
+	private static volatile Table table;
+
+	private CauldronStateTable() {
+	}
+
+	/**
+	 * Registers a descriptor for a cauldron block.
+	 *
+	 * <p>Unnecessary for blocks extending {@link AbstractLeveledCauldronBlock} or {@link FullCauldronBlock}.
+	 *
+	 * @param block      the cauldron block
+	 * @param descriptor how the block stores its fluid level
+	 * @throws IllegalArgumentException if the block doesn't have the descriptor's level property
+	 */
+	public static synchronized void register(Block block, CauldronDescriptor descriptor) {
+		if (descriptor.levelProperty() != null && !block.getStateManager().getProperties().contains(descriptor.levelProperty())) {
+			throw new IllegalArgumentException("Block " + block + " does not have level property " + descriptor.levelProperty().getName());
+		}
+
+		DESCRIPTORS.put(block, descriptor);
+		invalidate();
+	}
+
+	/**
+	 * Gets the registered descriptor for a cauldron block, or {@code null} if there is none.
+	 *
+	 * @param block the cauldron block
+	 */
+	@Nullable
+	public static synchronized CauldronDescriptor getDescriptor(Block block) {
+		return DESCRIPTORS.get(block);
+	}
+
+	/**
+	 * Discards the table, so it is rebuilt the next time it is needed.
+	 *
+	 * <p>Called automatically when block raw ids are remapped.
+	 */
+	public static void invalidate() {
+		table = null;
+	}
+
+	/**
+	 * Gets a hash of which blocks are known cauldrons, to tell whether data saved about cauldrons may be outdated.
+	 *
+	 * <p>Only depends on block ids, not raw ids, so it stays the same across restarts unless cauldron blocks or descriptors change.
+	 */
+	public static int getFingerprint() {
+		return getTable(0).fingerprint;
+	}
+
+	/**
+	 * Gets the packed entry for a block state.
+	 *
+	 * @param state the block state
+	 */
+	public static int get(BlockState state) {
+		int id = Block.getRawIdFromState(state);
+		Table table = getTable(id);
+
+		return id < 0 || id >= table.packed.length ? compute(state) : table.packed[id];
+	}
+
+	/**
+	 * Gets the transition table for a block state, or {@code null} if not a known cauldron.
+	 *
+	 * <p>The returned array maps each fluid level, from {@code 0} to the cauldron's maximum fluid level, to the block state
+	 * the cauldron becomes at that level. Levels that can't be reached from the given state are {@code null}.
+	 * The array is shared and must not be modified.
+	 *
+	 * @param state the block state
+	 */
+	public static BlockState @Nullable [] getTransitions(BlockState state) {
+		int id = Block.getRawIdFromState(state);
+		Table table = getTable(id);
+
+		return id < 0 || id >= table.transitions.length ? computeTransitions(state, compute(state)) : table.transitions[id];
+	}
+
+	/**
+	 * Gets the block state a cauldron becomes when its fluid level is set, or {@code null} if it can't be set to that level.
+	 *
+	 * @param state the block state of the cauldron
+	 * @param level the fluid level
+	 */
+	@Nullable
+	public static BlockState getStateForLevel(BlockState state, int level) {
+		BlockState[] transitions = getTransitions(state);
+		return transitions == null || level < 0 || level >= transitions.length ? null : transitions[level];
+	}
+
+	/**
+	 * Gets the block state a cauldron becomes when its fluid level is set, or {@code null} if no change would be made.
+	 *
+	 * @param state    the block state of the cauldron
+	 * @param level    the fluid level
+	 * @param required whether the cauldron is required to be able to hold the exact amount given,
+	 *                 otherwise the level is clamped to what the cauldron can hold
+	 */
+	@Nullable
+	public static BlockState getStateForLevel(BlockState state, int level, boolean required) {
+		BlockState[] transitions = getTransitions(state);
+		if (transitions == null) return null;
+
+		int actualLevel = required ? level : MathHelper.clamp(level, 0, transitions.length - 1);
+		if (actualLevel < 0 || actualLevel >= transitions.length) return null;
+
+		BlockState newState = transitions[actualLevel];
+		return newState == state ? null : newState;
+	}
+
+	/**
+	 * Whether a packed entry is a known cauldron.
+	 */
+	public static boolean isCauldron(int packed) {
+		return packed != 0;
+	}
+
+	/**
+	 * Gets the fluid level of a packed entry, or {@code -1} if not a known cauldron.
+	 */
+	public static int getFluidLevel(int packed) {
+		return packed == 0 ? -1 : packed & LEVEL_MASK;
+	}
+
+	/**
+	 * Gets the maximum fluid level of a packed entry, or {@code -1} if not a known cauldron.
+	 */
+	public static int getMaxFluidLevel(int packed) {
+		return packed == 0 ? -1 : (packed >>> LEVEL_BITS) & LEVEL_MASK;
+	}
+
+	/**
+	 * Gets the kind of a packed entry, or {@code null} if not a known cauldron.
+	 */
+	@Nullable
+	public static CauldronDescriptor.Kind getKind(int packed) {
+		return packed == 0 ? null : KINDS[(packed >>> (LEVEL_BITS * 2)) - 1];
+	}
+
+	private static int pack(CauldronDescriptor.Kind kind, int level, int maxLevel) {
+		return ((kind.ordinal() + 1) << (LEVEL_BITS * 2)) | ((maxLevel & LEVEL_MASK) << LEVEL_BITS) | (level & LEVEL_MASK);
+	}
+
+	private static Table getTable(int id) {
+		Table table = CauldronStateTable.table;
+		return table == null || id >= table.packed.length ? build() : table;
+	}
+
+	private static synchronized Table build() {
+		Table table = CauldronStateTable.table;
+		int size = Block.STATE_IDS.size();
+		if (table != null && table.packed.length == size) return table;
+
+		int[] packed = new int[size];
+		BlockState[][] transitions = new BlockState[size][];
+		// States that only differ in fluid level have identical transition tables, so share them
+		Reference2ObjectOpenHashMap<BlockState, BlockState[]> shared = new Reference2ObjectOpenHashMap<>();
+		ReferenceOpenHashSet<Block> cauldronBlocks = new ReferenceOpenHashSet<>();
+
+		for (int id = 0; id < size; id++) {
+			BlockState state = Block.STATE_IDS.get(id);
+			if (state == null) continue;
+
+			packed[id] = compute(state);
+			if (packed[id] != 0) cauldronBlocks.add(state.getBlock());
+			BlockState[] stateTransitions = computeTransitions(state, packed[id]);
+
+			if (stateTransitions != null && stateTransitions.length > 1) {
+				BlockState[] existing = shared.putIfAbsent(stateTransitions[stateTransitions.length - 1], stateTransitions);
+				if (existing != null && existing.length == stateTransitions.length) stateTransitions = existing;
+			}
+
+			transitions[id] = stateTransitions;
+		}
+
+		// Order independent, so it doesn't depend on raw ids
+		int fingerprint = 0;
+		for (Block block : cauldronBlocks) {
+			fingerprint += Registry.BLOCK.getId(block).toString().hashCode();
+		}
+
+		table = new Table(packed, transitions, fingerprint);
+		CauldronStateTable.table = table;
+		return table;
+	}
+
+	private static int compute(BlockState state) {
+		Block block = state.getBlock();
+		CauldronDescriptor descriptor = getDescriptor(block);
+
+		if (descriptor != null) {
+			return pack(descriptor.kind(), descriptor.getFluidLevel(state), descriptor.maxLevel());
+		} else if (block instanceof AbstractLeveledCauldronBlock leveledBlock) {
+			return pack(CauldronDescriptor.Kind.LEVELED, leveledBlock.getFluidLevel(state), leveledBlock.getMaxLevel());
+		} else if (block instanceof FullCauldronBlock || block == Blocks.LAVA_CAULDRON) {
+			return pack(CauldronDescriptor.Kind.FULL, 1, 1);
+		} else if (block instanceof LeveledCauldronBlock) {
+			return pack(CauldronDescriptor.Kind.LEVELED, state.get(LeveledCauldronBlock.LEVEL), 3);
+		} else if (block == Blocks.CAULDRON) {
+			return pack(CauldronDescriptor.Kind.EMPTY, 0, 0);
+		}
+
+		return 0;
+	}
+
+	private static BlockState @Nullable [] computeTransitions(BlockState state, int packed) {
+		CauldronDescriptor.Kind kind = getKind(packed);
+		if (kind == null) return null;
+
+		BlockState[] transitions = new BlockState[getMaxFluidLevel(packed) + 1];
+
+		switch (kind) {
+			case EMPTY -> transitions[0] = state;
+			case FULL -> {
+				transitions[0] = Blocks.CAULDRON.getDefaultState();
+				transitions[transitions.length - 1] = state;
+			}
+			case LEVELED -> {
+				transitions[0] = Blocks.CAULDRON.getDefaultState();
+				IntProperty levelProperty = getLevelProperty(state);
+				for (int level = 1; level < transitions.length; level++) {
+					transitions[level] = levelProperty.getValues().contains(level) ? state.with(levelProperty, level) : null;
+				}
+			}
+		}
+
+		return transitions;
+	}
+
+	private static IntProperty getLevelProperty(BlockState state) {
+		Block block = state.getBlock();
+		CauldronDescriptor descriptor = getDescriptor(block);
+
+		if (descriptor != null) {
+			return descriptor.levelProperty();
+		} else if (block instanceof AbstractLeveledCauldronBlock leveledBlock) {
+			return leveledBlock.getLevelProperty();
+		}
+
+		return LeveledCauldronBlock.LEVEL;
+	}
+
+	private record Table(int[] packed, BlockState[][] transitions, int fingerprint) {
+	}
+}
@@ -0,0 +1,122 @@
+package com.shnupbups.cauldronlib.state;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.block.AbstractLeveledCauldronBlock;
+import com.shnupbups.cauldronlib.world.CauldronUpdateBatch;
+
+/**
+ * A validated, precomputed change to the fluid level of a cauldron.
+ *
+ * <p>Planning a change does all the lookups and clamping once. The plan can then be checked with {@link #isApplicable()}
+ * and applied later, or alongside others, with a single block state change.
+ *
+ * @param from     the block state of the cauldron the change was planned for
+ * @param to       the block state the cauldron becomes, only present if the change is applicable
+ * @param level    the fluid level the cauldron is set to, after clamping
+ * @param required whether the cauldron was required to be able to hold the exact amount requested
+ * @param result   whether the change is applicable, or why it isn't
+ * @see CauldronLib#planSetFluidLevel(BlockState, boolean, int)
+ */
+public record FluidLevelChange(BlockState from, @Nullable BlockState to, int level, boolean required, Result result) {
+	public FluidLevelChange {
+		if ((result == Result.APPLICABLE) != (to != null)) {
+			throw new IllegalArgumentException("Only applicable changes have a resulting block state");
+		}
+	}
+
+	/**
+	 * Plans setting the fluid level of a cauldron.
+	 *
+	 * @param state    the block state of the cauldron
+	 * @param required whether the cauldron is required to be able to hold the exact amount given,
+	 *                 otherwise the level is clamped to what the cauldron can hold
+	 * @param level    the amount to set the fluid level to
+	 */
+	public static FluidLevelChange plan(BlockState state, boolean required, int level) {
+		BlockState[] transitions = CauldronStateTable.getTransitions(state);
+		if (transitions == null) return new FluidLevelChange(state, null, level, required, Result.NOT_A_CAULDRON);
+
+		int actualLevel = required ? level : MathHelper.clamp(level, 0, transitions.length - 1);
+		if (actualLevel < 0 || actualLevel >= transitions.length) return new FluidLevelChange(state, null, actualLevel, required, Result.OUT_OF_RANGE);
+
+		BlockState newState = transitions[actualLevel];
+		if (newState == null) return new FluidLevelChange(state, null, actualLevel, required, Result.OUT_OF_RANGE);
+		if (newState == state) return new FluidLevelChange(state, null, actualLevel, required, Result.UNCHANGED);
+
+		return new FluidLevelChange(state, newState, actualLevel, required, Result.APPLICABLE);
+	}
+
+	/**
+	 * Whether applying this change would change the cauldron.
+	 */
+	public boolean isApplicable() {
+		return result == Result.APPLICABLE;
+	}
+
+	/**
+	 * Applies this change to a cauldron.
+	 *
+	 * <p>For {@link AbstractLeveledCauldronBlock}s that override
+	 * {@link AbstractLeveledCauldronBlock#setFluidLevel(BlockState, World, BlockPos, boolean, int)}, the change is made through it,
+	 * so the override still applies. Every other cauldron is changed directly to {@link #to()}.
+	 *
+	 * <p>The block state at the given position is not checked again, so this should only be used while it is still {@link #from()}.
+	 *
+	 * @param world the world the cauldron is in
+	 * @param pos   the position of the cauldron
+	 * @return whether any change was made
+	 */
+	public boolean apply(World world, BlockPos pos) {
+		if (to != null && from.getBlock() instanceof AbstractLeveledCauldronBlock block && block.hasCustomSetFluidLevel()) {
+			return block.setFluidLevel(from, world, pos, required, level);
+		}
+
+		return applyDirectly(world, pos);
+	}
+
+	/**
+	 * Applies this change to a cauldron by setting its block state, without going through the cauldron block.
+	 *
+	 * <p>Meant for implementations of {@link AbstractLeveledCauldronBlock#setFluidLevel(BlockState, World, BlockPos, boolean, int)},
+	 * everything else should use {@link #apply(World, BlockPos)}.
+	 *
+	 * @param world the world the cauldron is in
+	 * @param pos   the position of the cauldron
+	 * @return whether any change was made
+	 */
+	public boolean applyDirectly(World world, BlockPos pos) {
+		boolean changed = to != null && CauldronUpdateBatch.setBlockState(world, pos, to);
+
+		CauldronLib.getMetrics().recordSetFluidLevel(from, level, required, changed);
+		return changed;
+	}
+
+	/**
+	 * Whether a fluid level change is applicable, or why it isn't.
+	 */
+	public enum Result {
+		/**
+		 * The change can be applied.
+		 */
+		APPLICABLE,
+		/**
+		 * The block state is not a known cauldron.
+		 */
+		NOT_A_CAULDRON,
+		/**
+		 * The requested fluid level is below 0, above what the cauldron can hold, or a level the cauldron can't be set to.
+		 */
+		OUT_OF_RANGE,
+		/**
+		 * The cauldron already has the requested fluid level.
+		 */
+		UNCHANGED
+	}
+}
@@ -0,0 +1,119 @@
+package com.shnupbups.cauldronlib.world;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.IntUnaryOperator;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+
+import com.shnupbups.cauldronlib.CauldronLib;
+import com.shnupbups.cauldronlib.block.AbstractLeveledCauldronBlock;
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+
+/**
+ * Changes the fluid levels of many cauldrons at once, coalescing the updates sent to their surroundings.
+ *
+ * <p>Block states are changed without notifying neighbors, so clients still receive the changes batched per chunk section.
+ * Once every cauldron in a chunk section has changed, each position next to a changed cauldron, but not itself a changed cauldron,
+ * gets a single neighbor update, and each changed cauldron a single comparator update.
+ * If a {@link CauldronUpdateBatch} is open, those updates are deferred to the end of the tick instead.
+ *
+ * <p>{@link AbstractLeveledCauldronBlock}s that override {@code setFluidLevel} are changed through it, so their side effects still apply.
+ * Their updates are sent as they change rather than per chunk section.
+ */
+public final class CauldronBulkUpdater {
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private CauldronBulkUpdater() {
+	}
+
+	/**
+	 * Changes the fluid levels of cauldrons.
+	 *
+	 * @param world     the world the cauldrons are in
+	 * @param positions the positions of the cauldrons
+	 * @param required  whether each cauldron is required to be able to hold the exact amount given
+	 * @param levels    computes the new fluid level of a cauldron from its current fluid level
+	 * @return a bit set with a bit set for every position, in iteration order, where a change was made
+	 */
+	public static BitSet apply(World world, Collection<BlockPos> positions, boolean required, IntUnaryOperator levels) {
+		BlockPos[] posArray = positions.toArray(new BlockPos[0]);
+		BitSet changed = new BitSet(posArray.length);
+
+		Long2ObjectLinkedOpenHashMap<IntArrayList> sections = new Long2ObjectLinkedOpenHashMap<>();
+
+		for (int i = 0; i < posArray.length; i++) {
+			sections.computeIfAbsent(ChunkSectionPos.toLong(posArray[i]), (section) -> new IntArrayList()).add(i);
+		}
+
+		LongOpenHashSet sectionChanged = new LongOpenHashSet();
+		LongOpenHashSet notified = new LongOpenHashSet();
+		IntArrayList sectionChanges = new IntArrayList();
+		boolean deferring = CauldronUpdateBatch.isDeferring(world);
+
+		for (IntArrayList section : sections.values()) {
+			sectionChanges.clear();
+
+			for (int i = 0; i < section.size(); i++) {
+				int index = section.getInt(i);
+				BlockPos pos = posArray[index];
+				BlockState state = world.getBlockState(pos);
+
+				int level = CauldronStateTable.getFluidLevel(CauldronStateTable.get(state));
+				if (level == -1) continue;
+
+				int newLevel = levels.applyAsInt(level);
+
+				if (state.getBlock() instanceof AbstractLeveledCauldronBlock block && block.hasCustomSetFluidLevel()) {
+					// Goes through the block so overrides apply; the block sends its own updates.
+					if (block.setFluidLevel(state, world, pos, required, newLevel)) changed.set(index);
+					continue;
+				}
+
+				BlockState newState = CauldronStateTable.getStateForLevel(state, newLevel, required);
+				boolean stateChanged = newState != null && world.setBlockState(pos, newState, Block.NOTIFY_LISTENERS);
+
+				if (stateChanged) {
+					changed.set(index);
+					sectionChanges.add(index);
+					if (deferring) CauldronUpdateBatch.markDirty(world, pos);
+				}
+
+				CauldronLib.getMetrics().recordSetFluidLevel(state, newLevel, required, stateChanged);
+			}
+
+			if (deferring) continue;
+
+			// Changed cauldrons get their own comparator update, so only the rest of their neighbors need notifying
+			sectionChanged.clear();
+			for (int i = 0; i < sectionChanges.size(); i++) {
+				sectionChanged.add(posArray[sectionChanges.getInt(i)].asLong());
+			}
+
+			notified.clear();
+			for (int i = 0; i < sectionChanges.size(); i++) {
+				BlockPos pos = posArray[sectionChanges.getInt(i)];
+				Block block = world.getBlockState(pos).getBlock();
+
+				for (Direction direction : DIRECTIONS) {
+					BlockPos neighborPos = pos.offset(direction);
+					long neighbor = neighborPos.asLong();
+					if (!sectionChanged.contains(neighbor) && notified.add(neighbor)) world.updateNeighbor(neighborPos, block, pos);
+				}
+
+				world.updateComparators(pos, block);
+			}
+		}
+
+		return changed;
+	}
+}
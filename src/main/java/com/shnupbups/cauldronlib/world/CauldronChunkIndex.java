@@ -0,0 +1,306 @@
+package com.shnupbups.cauldronlib.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+
+/**
+ * The positions of every cauldron known to {@link com.shnupbups.cauldronlib.CauldronLib} in a single chunk.
+ *
+ * <p>Each loaded chunk holds its own index, which is kept up to date as blocks change and saved with the rest of the chunk.
+ * Chunks saved without one, or with one saved while a different set of blocks were cauldrons, are scanned the first time they are queried.
+ *
+ * <p>Like the chunks themselves, indexes should only be used from the thread that owns the world.
+ */
+public class CauldronChunkIndex {
+	/**
+	 * The key the index is saved under in chunk data.
+	 */
+	public static final String NBT_KEY = "cauldronlib:cauldrons";
+	/**
+	 * The key the {@linkplain CauldronStateTable#getFingerprint() fingerprint} of the known cauldrons is saved under in chunk data.
+	 */
+	public static final String FINGERPRINT_NBT_KEY = "cauldronlib:cauldrons_fingerprint";
+
+	private final IntOpenHashSet positions;
+	private boolean verified;
+
+	public CauldronChunkIndex() {
+		this.positions = new IntOpenHashSet();
+		this.verified = true;
+	}
+
+	/**
+	 * Creates an index from saved positions, which are checked against the chunk the first time the index is used.
+	 *
+	 * @param packed the packed positions
+	 */
+	public CauldronChunkIndex(int[] packed) {
+		this.positions = new IntOpenHashSet(packed);
+		this.verified = false;
+	}
+
+	/**
+	 * Reads an index from chunk data, or returns {@code null} if there is none or it was saved with a different set of known cauldrons.
+	 *
+	 * @param nbt the chunk data
+	 */
+	@Nullable
+	public static CauldronChunkIndex readNbt(NbtCompound nbt) {
+		if (!nbt.contains(NBT_KEY, NbtElement.INT_ARRAY_TYPE) || !nbt.contains(FINGERPRINT_NBT_KEY, NbtElement.INT_TYPE)) return null;
+		if (nbt.getInt(FINGERPRINT_NBT_KEY) != CauldronStateTable.getFingerprint()) return null;
+
+		return new CauldronChunkIndex(nbt.getIntArray(NBT_KEY));
+	}
+
+	/**
+	 * Writes this index to chunk data.
+	 *
+	 * @param nbt the chunk data
+	 */
+	public void writeNbt(NbtCompound nbt) {
+		nbt.putIntArray(NBT_KEY, positions.toIntArray());
+		nbt.putInt(FINGERPRINT_NBT_KEY, CauldronStateTable.getFingerprint());
+	}
+
+	/**
+	 * Builds the index of a chunk by scanning every section that contains a cauldron.
+	 *
+	 * @param chunk the chunk to scan
+	 */
+	public static CauldronChunkIndex scan(WorldChunk chunk) {
+		CauldronChunkIndex index = new CauldronChunkIndex();
+		ChunkSection[] sections = chunk.getSectionArray();
+
+		for (int i = 0; i < sections.length; i++) {
+			ChunkSection section = sections[i];
+			if (section == null || section.isEmpty() || !section.hasAny(CauldronChunkIndex::isCauldron)) continue;
+
+			int minY = ChunkSectionPos.getBlockCoord(chunk.sectionIndexToCoord(i));
+			for (int y = 0; y < 16; y++) {
+				for (int z = 0; z < 16; z++) {
+					for (int x = 0; x < 16; x++) {
+						if (isCauldron(section.getBlockState(x, y, z))) index.positions.add(pack(x, minY + y, z));
+					}
+				}
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * Gets the index of a chunk, scanning it first if it doesn't have one yet.
+	 *
+	 * <p>Saved indexes are checked against the chunk the first time they are used, and the chunk is rescanned if any saved position
+	 * is no longer a cauldron, as the chunk may have been edited without the index being updated.
+	 *
+	 * @param chunk the chunk
+	 */
+	public static CauldronChunkIndex get(WorldChunk chunk) {
+		Holder holder = (Holder) chunk;
+		CauldronChunkIndex index = holder.cauldronlib$getCauldronIndex();
+
+		if (index != null && !index.verified && !index.verify(chunk)) index = null;
+
+		if (index == null) {
+			index = scan(chunk);
+			holder.cauldronlib$setCauldronIndex(index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Finds every cauldron within a box, only looking at the loaded chunks that the box overlaps.
+	 *
+	 * <p>Unloaded chunks are skipped rather than loaded.
+	 *
+	 * @param world  the world to look in
+	 * @param box    the box to look in, inclusive
+	 * @param action the action to run for each cauldron position
+	 */
+	public static void forEach(World world, BlockBox box, Consumer<BlockPos> action) {
+		int minChunkX = ChunkSectionPos.getSectionCoord(box.getMinX());
+		int maxChunkX = ChunkSectionPos.getSectionCoord(box.getMaxX());
+		int minChunkZ = ChunkSectionPos.getSectionCoord(box.getMinZ());
+		int maxChunkZ = ChunkSectionPos.getSectionCoord(box.getMaxZ());
+
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+				WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+				if (chunk == null) continue;
+
+				CauldronChunkIndex index = get(chunk);
+				if (index.isEmpty()) continue;
+
+				int startX = ChunkSectionPos.getBlockCoord(chunkX);
+				int startZ = ChunkSectionPos.getBlockCoord(chunkZ);
+
+				List<BlockPos> found = new ArrayList<>();
+				BlockPos.Mutable pos = new BlockPos.Mutable();
+
+				for (IntIterator iterator = index.positions.iterator(); iterator.hasNext(); ) {
+					int packed = iterator.nextInt();
+					int x = startX + unpackX(packed);
+					int y = unpackY(packed);
+					int z = startZ + unpackZ(packed);
+
+					if (x >= box.getMinX() && x <= box.getMaxX() && y >= box.getMinY() && y <= box.getMaxY() && z >= box.getMinZ() && z <= box.getMaxZ()) {
+						// Drops positions changed without going through WorldChunk.setBlockState
+						if (isCauldron(chunk.getBlockState(pos.set(x, y, z)))) found.add(pos.toImmutable());
+						else iterator.remove();
+					}
+				}
+
+				// Runs the action after iterating, so it is free to change blocks in the chunk
+				found.forEach(action);
+			}
+		}
+	}
+
+	/**
+	 * Finds every cauldron within a box, only looking at the loaded chunks that the box overlaps.
+	 *
+	 * @param world the world to look in
+	 * @param box   the box to look in, inclusive
+	 * @see #forEach(World, BlockBox, Consumer)
+	 */
+	public static List<BlockPos> find(World world, BlockBox box) {
+		List<BlockPos> found = new ArrayList<>();
+		forEach(world, box, found::add);
+		return found;
+	}
+
+	private static boolean isCauldron(BlockState state) {
+		return CauldronStateTable.isCauldron(CauldronStateTable.get(state));
+	}
+
+	private static int pack(int localX, int y, int localZ) {
+		return (y << 8) | ((localZ & 15) << 4) | (localX & 15);
+	}
+
+	private static int pack(BlockPos pos) {
+		return pack(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	private static int unpackX(int packed) {
+		return packed & 15;
+	}
+
+	private static int unpackY(int packed) {
+		return packed >> 8;
+	}
+
+	private static int unpackZ(int packed) {
+		return (packed >> 4) & 15;
+	}
+
+	/**
+	 * Updates the index after a block in its chunk has changed.
+	 *
+	 * @param pos      the position of the block
+	 * @param oldState the previous block state
+	 * @param newState the new block state
+	 */
+	public void update(BlockPos pos, BlockState oldState, BlockState newState) {
+		boolean wasCauldron = isCauldron(oldState);
+		boolean isCauldron = isCauldron(newState);
+		if (wasCauldron == isCauldron) return;
+
+		if (isCauldron) positions.add(pack(pos));
+		else positions.remove(pack(pos));
+	}
+
+	/**
+	 * Runs an action for every cauldron in this index's chunk.
+	 *
+	 * <p>The action may change blocks in the chunk; cauldrons added while iterating are not visited.
+	 * Positions that are no longer cauldrons are dropped from the index rather than visited.
+	 *
+	 * @param chunk  this index's chunk
+	 * @param action the action to run for each cauldron position
+	 */
+	public void forEach(WorldChunk chunk, Consumer<BlockPos> action) {
+		ChunkPos chunkPos = chunk.getPos();
+
+		// Iterates over a copy, so the action is free to change blocks in the chunk
+		for (int packed : positions.toIntArray()) {
+			BlockPos pos = new BlockPos(chunkPos.getStartX() + unpackX(packed), unpackY(packed), chunkPos.getStartZ() + unpackZ(packed));
+
+			if (isCauldron(chunk.getBlockState(pos))) action.accept(pos);
+			else positions.remove(packed);
+		}
+	}
+
+	/**
+	 * Checks that every position in this index is still a cauldron.
+	 *
+	 * @param chunk this index's chunk
+	 * @return whether every position is still a cauldron
+	 */
+	private boolean verify(WorldChunk chunk) {
+		ChunkPos chunkPos = chunk.getPos();
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+
+		for (IntIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+			int packed = iterator.nextInt();
+			pos.set(chunkPos.getStartX() + unpackX(packed), unpackY(packed), chunkPos.getStartZ() + unpackZ(packed));
+			if (!isCauldron(chunk.getBlockState(pos))) return false;
+		}
+
+		verified = true;
+		return true;
+	}
+
+	/**
+	 * Whether the given position, which must be in this index's chunk, holds a cauldron.
+	 *
+	 * @param pos the position
+	 */
+	public boolean contains(BlockPos pos) {
+		return positions.contains(pack(pos));
+	}
+
+	/**
+	 * Whether the chunk has no cauldrons.
+	 */
+	public boolean isEmpty() {
+		return positions.isEmpty();
+	}
+
+	/**
+	 * Gets the number of cauldrons in the chunk.
+	 */
+	public int size() {
+		return positions.size();
+	}
+
+	/**
+	 * Implemented by chunks to hold their cauldron index.
+	 */
+	public interface Holder {
+		@Nullable
+		CauldronChunkIndex cauldronlib$getCauldronIndex();
+
+		void cauldronlib$setCauldronIndex(@Nullable CauldronChunkIndex index);
+	}
+}
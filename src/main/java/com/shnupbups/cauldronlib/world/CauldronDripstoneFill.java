@@ -0,0 +1,123 @@
+package com.shnupbups.cauldronlib.world;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldEvents;
+
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+
+/**
+ * Rules for filling cauldrons from fluids dripping off pointed dripstone.
+ *
+ * <p>Each fluid has at most one rule. A rule applies to empty cauldrons and to cauldrons of its target block,
+ * and for fluids other than water and lava also decides how likely the dripstone is to drip.
+ */
+public final class CauldronDripstoneFill {
+	private static final Map<Fluid, DripstoneFillRule> RULES = new Reference2ObjectOpenHashMap<>();
+	private static volatile boolean hasModdedRules = false;
+
+	private CauldronDripstoneFill() {
+	}
+
+	/**
+	 * Registers the rule for filling cauldrons from a fluid dripping off pointed dripstone, replacing any previous rule.
+	 *
+	 * @param fluid the dripping fluid
+	 * @param rule  the rule
+	 */
+	public static synchronized void register(Fluid fluid, DripstoneFillRule rule) {
+		RULES.put(fluid, rule);
+		if (!isVanillaFluid(fluid)) hasModdedRules = true;
+	}
+
+	/**
+	 * Gets the rule for filling cauldrons from a fluid, or {@code null} if there is none.
+	 *
+	 * @param fluid the dripping fluid
+	 */
+	@Nullable
+	public static synchronized DripstoneFillRule getRule(Fluid fluid) {
+		return RULES.get(fluid);
+	}
+
+	/**
+	 * Whether a rule has been registered for a fluid vanilla doesn't already drip.
+	 */
+	public static boolean hasModdedRules() {
+		return hasModdedRules;
+	}
+
+	/**
+	 * Whether vanilla pointed dripstone already drips a fluid.
+	 *
+	 * @param fluid the fluid
+	 */
+	public static boolean isVanillaFluid(Fluid fluid) {
+		return fluid == Fluids.WATER || fluid == Fluids.LAVA;
+	}
+
+	/**
+	 * Whether a cauldron block can be filled by a dripping fluid according to the registered rules.
+	 *
+	 * @param cauldron the cauldron block
+	 * @param fluid    the dripping fluid
+	 */
+	public static boolean canFill(Block cauldron, Fluid fluid) {
+		DripstoneFillRule rule = getRule(fluid);
+		return rule != null && (rule.cauldron() == cauldron || CauldronStateTable.getFluidLevel(CauldronStateTable.get(cauldron.getDefaultState())) == 0);
+	}
+
+	/**
+	 * Fills a cauldron from a dripping fluid according to the registered rules.
+	 *
+	 * @param state the block state of the cauldron
+	 * @param world the world the cauldron is in
+	 * @param pos   the position of the cauldron
+	 * @param fluid the dripping fluid
+	 * @return whether a rule applied and the cauldron was changed
+	 */
+	public static boolean fill(BlockState state, World world, BlockPos pos, Fluid fluid) {
+		DripstoneFillRule rule = getRule(fluid);
+		if (rule == null) return false;
+
+		int packed = CauldronStateTable.get(state);
+		boolean sameCauldron = state.isOf(rule.cauldron());
+		if (!sameCauldron && CauldronStateTable.getFluidLevel(packed) != 0) return false;
+
+		BlockState[] transitions = CauldronStateTable.getTransitions(sameCauldron ? state : rule.cauldron().getDefaultState());
+		if (transitions == null) return false;
+
+		int level = sameCauldron ? CauldronStateTable.getFluidLevel(packed) + rule.increment() : rule.increment();
+		BlockState newState = transitions[MathHelper.clamp(level, 0, transitions.length - 1)];
+		if (newState == state || !CauldronUpdateBatch.setBlockState(world, pos, newState)) return false;
+
+		world.syncWorldEvent(fluid == Fluids.LAVA ? WorldEvents.POINTED_DRIPSTONE_DRIPS_LAVA_INTO_CAULDRON : WorldEvents.POINTED_DRIPSTONE_DRIPS_WATER_INTO_CAULDRON, pos, 0);
+		return true;
+	}
+
+	/**
+	 * A rule for filling cauldrons from a fluid dripping off pointed dripstone.
+	 *
+	 * @param cauldron  the cauldron block that results
+	 * @param increment the number of fluid levels added per drip
+	 * @param chance    the chance of the dripstone dripping on each of its random drip checks,
+	 *                  only used for fluids other than water and lava, for which vanilla's chances are kept
+	 */
+	public record DripstoneFillRule(Block cauldron, int increment, float chance) {
+		public DripstoneFillRule {
+			if (increment < 1) throw new IllegalArgumentException("Dripstone fill increment must be at least 1, got " + increment);
+			if (chance <= 0.0F || chance > 1.0F) throw new IllegalArgumentException("Dripstone drip chance must be in (0, 1], got " + chance);
+		}
+	}
+}
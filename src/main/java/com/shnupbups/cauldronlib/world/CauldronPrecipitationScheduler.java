@@ -0,0 +1,214 @@
+package com.shnupbups.cauldronlib.world;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.WorldChunk;
+
+import com.shnupbups.cauldronlib.state.CauldronDescriptor;
+import com.shnupbups.cauldronlib.state.CauldronStateTable;
+
+/**
+ * Fills cauldrons left out in the rain or snow, according to registered {@link PrecipitationFillRule}s.
+ *
+ * <p>Rather than giving each cauldron its own random tick, loaded chunks are visited round-robin at the end of each world tick,
+ * and every cauldron in a visited chunk is checked in one pass. The number of chunks and cauldrons checked per tick is capped by a budget.
+ * Each rule's chance is a per-tick chance, scaled by how many rainy ticks have passed since the chunk was last visited,
+ * so how often cauldrons fill doesn't depend on the budget.
+ *
+ * <p>Vanilla still fills vanilla cauldrons itself, so rules for empty cauldrons compete with vanilla water and powder snow filling.
+ */
+public final class CauldronPrecipitationScheduler {
+	/**
+	 * The default number of chunks plus cauldrons checked per world tick.
+	 */
+	public static final int DEFAULT_BUDGET = 256;
+
+	private static final Map<Biome.Precipitation, PrecipitationRules> RULES = new EnumMap<>(Biome.Precipitation.class);
+
+	private static int budget = DEFAULT_BUDGET;
+
+	private CauldronPrecipitationScheduler() {
+	}
+
+	/**
+	 * Registers a rule for filling cauldrons during a kind of precipitation.
+	 *
+	 * <p>The rule applies to empty cauldrons and to cauldrons of its target block. The first rule registered for a target block wins,
+	 * as does the first rule registered for empty cauldrons.
+	 *
+	 * @param precipitation the kind of precipitation
+	 * @param rule          the rule
+	 */
+	public static synchronized void register(Biome.Precipitation precipitation, PrecipitationFillRule rule) {
+		if (precipitation == Biome.Precipitation.NONE) throw new IllegalArgumentException("Cannot fill cauldrons without precipitation");
+
+		PrecipitationRules rules = RULES.computeIfAbsent(precipitation, (p) -> new PrecipitationRules());
+		rules.byCauldron.putIfAbsent(rule.cauldron(), rule);
+		if (rules.emptyRule == null) rules.emptyRule = rule;
+	}
+
+	/**
+	 * Gets the number of chunks plus cauldrons checked per world tick.
+	 */
+	public static int getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Sets the number of chunks plus cauldrons checked per world tick.
+	 *
+	 * @param budget the new budget, at least 1
+	 */
+	public static void setBudget(int budget) {
+		if (budget < 1) throw new IllegalArgumentException("Precipitation fill budget must be at least 1, got " + budget);
+		CauldronPrecipitationScheduler.budget = budget;
+	}
+
+	/**
+	 * Queues a newly loaded chunk to be visited.
+	 *
+	 * @param world the world the chunk is in
+	 * @param chunk the chunk
+	 */
+	public static void onChunkLoad(ServerWorld world, WorldChunk chunk) {
+		if (RULES.isEmpty()) return;
+		getState(world).enqueue(chunk.getPos().toLong());
+	}
+
+	/**
+	 * Visits queued chunks until the budget runs out, filling cauldrons exposed to precipitation.
+	 *
+	 * @param world the world to tick
+	 */
+	public static void tick(ServerWorld world) {
+		if (RULES.isEmpty() || !world.isRaining()) return;
+
+		WorldState state = getState(world);
+		state.rainTicks++;
+
+		int remaining = budget;
+		int chunks = state.queue.size();
+
+		try (CauldronUpdateBatch batch = CauldronUpdateBatch.open(world)) {
+			while (remaining > 0 && chunks-- > 0) {
+				long chunkPos = state.queue.dequeueLong();
+				WorldChunk chunk = world.getChunkManager().getWorldChunk(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos));
+
+				if (chunk == null) {
+					state.lastVisits.remove(chunkPos);
+					continue;
+				}
+
+				state.queue.enqueue(chunkPos);
+				remaining--;
+
+				long elapsed = state.rainTicks - state.lastVisits.put(chunkPos, state.rainTicks);
+				CauldronChunkIndex index = CauldronChunkIndex.get(chunk);
+				if (index.isEmpty()) continue;
+
+				remaining -= index.size();
+				index.forEach(chunk, (pos) -> fill(world, pos, elapsed));
+			}
+		}
+	}
+
+	private static void fill(ServerWorld world, BlockPos pos, long elapsed) {
+		if (world.getTopY(Heightmap.Type.MOTION_BLOCKING, pos.getX(), pos.getZ()) != pos.getY() + 1) return;
+
+		Biome biome = world.getBiome(pos);
+		Biome.Precipitation precipitation = biome.getPrecipitation();
+		if (precipitation == Biome.Precipitation.RAIN && biome.isCold(pos)) precipitation = Biome.Precipitation.SNOW;
+
+		PrecipitationRules rules = RULES.get(precipitation);
+		if (rules == null) return;
+
+		BlockState state = world.getBlockState(pos);
+		int packed = CauldronStateTable.get(state);
+		PrecipitationFillRule rule = CauldronStateTable.getKind(packed) == CauldronDescriptor.Kind.EMPTY ? rules.emptyRule : rules.byCauldron.get(state.getBlock());
+		if (rule == null || world.random.nextDouble() >= 1.0D - Math.pow(1.0D - rule.chance(), elapsed)) return;
+
+		BlockState from = state.isOf(rule.cauldron()) ? state : rule.cauldron().getDefaultState();
+		int level = state.isOf(rule.cauldron()) ? CauldronStateTable.getFluidLevel(packed) + rule.increment() : rule.increment();
+		BlockState[] transitions = CauldronStateTable.getTransitions(from);
+		if (transitions == null) return;
+
+		// Levels the cauldron has no block state for are skipped
+		BlockState newState = transitions[MathHelper.clamp(level, 0, transitions.length - 1)];
+		if (newState != null && newState != state) CauldronUpdateBatch.setBlockState(world, pos, newState);
+	}
+
+	private static WorldState getState(ServerWorld world) {
+		Holder holder = (Holder) world;
+		WorldState state = holder.cauldronlib$getPrecipitationState();
+
+		if (state == null) {
+			state = new WorldState();
+			holder.cauldronlib$setPrecipitationState(state);
+		}
+
+		return state;
+	}
+
+	/**
+	 * A rule for filling cauldrons during precipitation.
+	 *
+	 * @param cauldron  the cauldron block that results
+	 * @param increment the number of fluid levels added each time the cauldron fills
+	 * @param chance    the chance per tick of the cauldron filling, while exposed to precipitation
+	 */
+	public record PrecipitationFillRule(Block cauldron, int increment, float chance) {
+		public PrecipitationFillRule {
+			if (increment < 1) throw new IllegalArgumentException("Precipitation fill increment must be at least 1, got " + increment);
+			if (chance <= 0.0F || chance > 1.0F) throw new IllegalArgumentException("Precipitation fill chance must be in (0, 1], got " + chance);
+		}
+	}
+
+	private static final class PrecipitationRules {
+		private final Reference2ObjectOpenHashMap<Block, PrecipitationFillRule> byCauldron = new Reference2ObjectOpenHashMap<>();
+		@Nullable
+		private PrecipitationFillRule emptyRule;
+	}
+
+	/**
+	 * The chunks a world has queued to be visited, and when each was last visited.
+	 */
+	public static final class WorldState {
+		private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+		private final Long2LongOpenHashMap lastVisits = new Long2LongOpenHashMap();
+		private long rainTicks;
+
+		private WorldState() {
+		}
+
+		private void enqueue(long chunkPos) {
+			if (lastVisits.containsKey(chunkPos)) return;
+			lastVisits.put(chunkPos, rainTicks);
+			queue.enqueue(chunkPos);
+		}
+	}
+
+	/**
+	 * Implemented by server worlds to hold their precipitation state.
+	 */
+	public interface Holder {
+		@Nullable
+		WorldState cauldronlib$getPrecipitationState();
+
+		void cauldronlib$setPrecipitationState(WorldState state);
+	}
+}
@@ -0,0 +1,160 @@
+package com.shnupbups.cauldronlib.world;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * A scope in which cauldron fluid level changes made through {@link com.shnupbups.cauldronlib.CauldronLib} don't immediately
+ * update neighbors and comparators.
+ *
+ * <p>Instead, changed positions are remembered, and each gets a single neighbor and comparator update at the end of the server tick,
+ * however many times it changed. Clients are still sent every change. Batches only have an effect on server worlds.
+ *
+ * <p>Batches are meant to be used with try-with-resources, and can be nested. Like the world itself, they should only be used
+ * from the thread that owns the world.
+ *
+ * <pre>{@code
+ * try (CauldronUpdateBatch batch = CauldronLib.deferUpdates(world)) {
+ *     CauldronLib.decrementFluidLevel(state, world, pos);
+ * }
+ * }</pre>
+ */
+public final class CauldronUpdateBatch implements AutoCloseable {
+	private final World world;
+	private boolean closed;
+
+	private CauldronUpdateBatch(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Opens a batch for the given world.
+	 *
+	 * @param world the world to defer updates in
+	 */
+	public static CauldronUpdateBatch open(World world) {
+		if (world instanceof ServerWorld serverWorld) {
+			Holder holder = (Holder) serverWorld;
+			DeferredUpdates updates = holder.cauldronlib$getDeferredUpdates();
+
+			if (updates == null) {
+				updates = new DeferredUpdates();
+				holder.cauldronlib$setDeferredUpdates(updates);
+			}
+
+			updates.depth++;
+		}
+
+		return new CauldronUpdateBatch(world);
+	}
+
+	/**
+	 * Whether updates are currently being deferred in the given world.
+	 *
+	 * @param world the world to check
+	 */
+	public static boolean isDeferring(World world) {
+		DeferredUpdates updates = get(world);
+		return updates != null && updates.depth > 0;
+	}
+
+	@Nullable
+	private static DeferredUpdates get(World world) {
+		return world instanceof ServerWorld ? ((Holder) world).cauldronlib$getDeferredUpdates() : null;
+	}
+
+	/**
+	 * Changes the block state of a cauldron, deferring its neighbor and comparator updates if a batch is open.
+	 *
+	 * @param world the world the cauldron is in
+	 * @param pos   the position of the cauldron
+	 * @param state the new block state
+	 * @return whether the block state was changed
+	 */
+	public static boolean setBlockState(World world, BlockPos pos, BlockState state) {
+		if (!isDeferring(world)) return world.setBlockState(pos, state);
+
+		if (!world.setBlockState(pos, state, Block.NOTIFY_LISTENERS)) return false;
+		markDirty(world, pos);
+		return true;
+	}
+
+	/**
+	 * Marks a position as needing neighbor and comparator updates at the end of the tick.
+	 *
+	 * <p>Only has an effect while a batch is open in the given world.
+	 *
+	 * @param world the world the position is in
+	 * @param pos   the position
+	 */
+	public static void markDirty(World world, BlockPos pos) {
+		DeferredUpdates updates = get(world);
+		if (updates != null && updates.depth > 0) updates.dirty.add(pos.asLong());
+	}
+
+	/**
+	 * Sends the deferred neighbor and comparator updates of a world.
+	 *
+	 * <p>Called automatically at the end of every server world tick.
+	 *
+	 * @param world the world to send updates in
+	 */
+	public static void flush(ServerWorld world) {
+		DeferredUpdates updates = ((Holder) world).cauldronlib$getDeferredUpdates();
+		if (updates == null || updates.dirty.isEmpty()) return;
+
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		LongIterator iterator = updates.dirty.iterator();
+
+		while (iterator.hasNext()) {
+			pos.set(iterator.nextLong());
+			iterator.remove();
+
+			BlockPos immutablePos = pos.toImmutable();
+			Block block = world.getBlockState(immutablePos).getBlock();
+			world.updateNeighbors(immutablePos, block);
+			world.updateComparators(immutablePos, block);
+		}
+	}
+
+	/**
+	 * Closes this batch. Updates deferred while it was open are still sent at the end of the tick.
+	 */
+	@Override
+	public void close() {
+		if (closed) return;
+		closed = true;
+
+		DeferredUpdates updates = get(world);
+		if (updates != null) updates.depth--;
+	}
+
+	/**
+	 * The deferred updates of a single world.
+	 */
+	public static final class DeferredUpdates {
+		private final LongLinkedOpenHashSet dirty = new LongLinkedOpenHashSet();
+		private int depth;
+
+		private DeferredUpdates() {
+		}
+	}
+
+	/**
+	 * Implemented by server worlds to hold their deferred updates.
+	 */
+	public interface Holder {
+		@Nullable
+		DeferredUpdates cauldronlib$getDeferredUpdates();
+
+		void cauldronlib$setDeferredUpdates(DeferredUpdates updates);
+	}
+}
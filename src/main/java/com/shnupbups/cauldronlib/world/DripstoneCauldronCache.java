@@ -0,0 +1,113 @@
+package com.shnupbups.cauldronlib.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+import net.minecraft.block.AbstractCauldronBlock;
+import net.minecraft.block.BlockState;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Remembers which cauldron each pointed dripstone tip drips into, so dripstone doesn't search downward on every drip.
+ *
+ * <p>Results are cached per block column in the chunk holding the column, and a column's results are dropped whenever any block in it changes.
+ * Chunks that never had a result cached only pay a null check when their blocks change. Client lookups are never cached.
+ */
+public final class DripstoneCauldronCache {
+	/**
+	 * How far below a dripstone tip a cauldron can be, matching vanilla.
+	 */
+	public static final int RANGE = 11;
+
+	private final Int2ObjectOpenHashMap<List<Entry>> columns = new Int2ObjectOpenHashMap<>();
+
+	private DripstoneCauldronCache() {
+	}
+
+	/**
+	 * Finds the cauldron a dripstone tip drips a fluid into, or {@code null} if there is none.
+	 *
+	 * @param world          the world the dripstone is in
+	 * @param tip            the position of the dripstone tip
+	 * @param fluid          the dripping fluid
+	 * @param canDripThrough whether fluid can drip through a block that isn't a cauldron
+	 */
+	@Nullable
+	public static BlockPos find(World world, BlockPos tip, Fluid fluid, BiPredicate<BlockPos, BlockState> canDripThrough) {
+		if (world.isClient) return search(world, tip, fluid, canDripThrough);
+
+		Holder holder = (Holder) world.getWorldChunk(tip);
+		DripstoneCauldronCache cache = holder.cauldronlib$getDripstoneCache();
+
+		if (cache == null) {
+			cache = new DripstoneCauldronCache();
+			holder.cauldronlib$setDripstoneCache(cache);
+		}
+
+		int column = getColumn(tip);
+		List<Entry> entries = cache.columns.get(column);
+
+		if (entries != null) {
+			for (Entry entry : entries) {
+				if (entry.tipY() == tip.getY() && entry.fluid() == fluid) return entry.cauldron();
+			}
+		} else {
+			entries = new ArrayList<>(1);
+			cache.columns.put(column, entries);
+		}
+
+		BlockPos cauldron = search(world, tip, fluid, canDripThrough);
+		entries.add(new Entry(tip.getY(), fluid, cauldron));
+		return cauldron;
+	}
+
+	@Nullable
+	private static BlockPos search(World world, BlockPos tip, Fluid fluid, BiPredicate<BlockPos, BlockState> canDripThrough) {
+		BlockPos.Mutable pos = tip.mutableCopy();
+
+		for (int i = 1; i < RANGE; i++) {
+			pos.move(0, -1, 0);
+			if (world.isOutOfHeightLimit(pos.getY())) return null;
+
+			BlockState state = world.getBlockState(pos);
+			if (state.getBlock() instanceof AbstractCauldronBlock cauldron && cauldron.canBeFilledByDripstone(fluid)) return pos.toImmutable();
+			if (!canDripThrough.test(pos, state)) return null;
+		}
+
+		return null;
+	}
+
+	private static int getColumn(BlockPos pos) {
+		return ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
+	}
+
+	/**
+	 * Drops cached results for the column a changed block is in.
+	 *
+	 * @param pos the position of the block, which must be in this cache's chunk
+	 */
+	public void onBlockChanged(BlockPos pos) {
+		if (!columns.isEmpty()) columns.remove(getColumn(pos));
+	}
+
+	private record Entry(int tipY, Fluid fluid, @Nullable BlockPos cauldron) {
+	}
+
+	/**
+	 * Implemented by chunks to hold their dripstone cache.
+	 */
+	public interface Holder {
+		@Nullable
+		DripstoneCauldronCache cauldronlib$getDripstoneCache();
+
+		void cauldronlib$setDripstoneCache(DripstoneCauldronCache cache);
+	}
+}